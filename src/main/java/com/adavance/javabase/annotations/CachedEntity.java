@@ -0,0 +1,31 @@
+package com.adavance.javabase.annotations;
+
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to mark entities that should be kept in the Hibernate second-level cache.
+ * 
+ * Intended for reference data that is read far more often than it changes.
+ * The entity's collections are cached as well when their elements are cacheable
+ * (other @CachedEntity entities or @ElementCollection values), and GenericRepository
+ * queries on the entity use the query cache.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedEntity {
+
+    /**
+     * Concurrency strategy for the entity and its collections.
+     */
+    CacheConcurrencyStrategy strategy() default CacheConcurrencyStrategy.READ_WRITE;
+
+    /**
+     * Whether the entity's cacheable collections are cached too.
+     */
+    boolean collections() default true;
+}
@@ -0,0 +1,268 @@
+package com.adavance.javabase.binding;
+
+import com.adavance.javabase.model.BaseEntity;
+import com.adavance.javabase.repository.GenericRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Binds request data (a JSON object as a Map) onto entities using the precomputed
+ * metadata from EntityBindingRegistry.
+ * Handles common scalar types and JPA relationships, loading related entities by UUID or id.
+ *
+ * Binding runs in two passes: the first walks the whole payload and collects every
+ * referenced UUID per related class, which are then loaded with one IN query per class;
+ * the second pass sets the fields and wires the preloaded entities.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityBinder {
+
+    private final EntityBindingRegistry bindingRegistry;
+    private final GenericRepository genericRepository;
+
+    /**
+     * Creates a new entity of the given class and binds the request data onto it.
+     */
+    public <T extends BaseEntity> T create(Class<T> entityClass, Map<String, Object> data) {
+        T entity = entityClass.cast(bindingRegistry.getBinding(entityClass).newInstance());
+        bind(entity, data, entityClass);
+        return entity;
+    }
+
+    /**
+     * Sets entity fields from a Map.
+     * Relationships (@ManyToOne, @OneToOne) can be given as "fieldName": {"uuid": ...} / {"id": ...}
+     * or as "fieldNameId": uuid / id; collections (@OneToMany, @ManyToMany) as a list of
+     * UUID strings or nested objects. Read-only fields are computed by the server and ignored.
+     */
+    public void bind(Object entity, Map<String, Object> data, Class<?> entityClass) {
+        Map<Class<?>, Set<String>> references = new HashMap<>();
+        collectReferences(data, entityClass, references);
+        bind(entity, data, entityClass, resolveReferences(references));
+    }
+
+    /**
+     * Prepares binding of several payloads of the same entity class at once: the references
+     * of all payloads are collected and loaded together, then each payload can be bound
+     * individually so that a failure in one does not affect the others.
+     */
+    public Batch batch(Class<?> entityClass, Collection<Map<String, Object>> payloads) {
+        Map<Class<?>, Set<String>> references = new HashMap<>();
+        for (Map<String, Object> data : payloads) {
+            collectReferences(data, entityClass, references);
+        }
+        return new Batch(entityClass, resolveReferences(references));
+    }
+
+    private void bind(Object entity, Map<String, Object> data, Class<?> entityClass, ResolvedReferences references) {
+        EntityBinding binding = bindingRegistry.getBinding(entityClass);
+
+        for (FieldBinding field : binding.getFields()) {
+            if (field.isReadOnly()) {
+                continue;
+            }
+            String fieldName = field.getName();
+            RelationshipKind kind = field.getRelationshipKind();
+
+            Object value = null;
+
+            // For relationships, check for fieldName or fieldNameId
+            if (kind.isRelationship()) {
+                if (data.containsKey(fieldName)) {
+                    value = data.get(fieldName);
+                } else if (kind.isToOne() && data.containsKey(field.getReferenceKey())) {
+                    Object idValue = data.get(field.getReferenceKey());
+                    if (idValue != null) {
+                        value = idValue instanceof String
+                                ? references.require(field.getTargetClass(), (String) idValue)
+                                : findById(field.getTargetClass(), idValue);
+                    }
+                }
+            } else if (data.containsKey(fieldName)) {
+                // For regular fields, only use the exact field name
+                value = data.get(fieldName);
+            }
+
+            if (value == null) {
+                continue;
+            }
+
+            // Handle OneToMany/ManyToMany (List of entities)
+            if (kind.isToMany() && value instanceof List<?> listValue) {
+                field.set(entity, bindCollection(field.getTargetClass(), listValue, references));
+                continue;
+            }
+
+            // Handle relationship fields that might be passed as Map with "uuid" or "id"
+            if (kind.isToOne() && value instanceof Map<?, ?> relationMap) {
+                if (relationMap.containsKey("uuid")) {
+                    value = references.require(field.getTargetClass(), (String) relationMap.get("uuid"));
+                } else if (relationMap.containsKey("id")) {
+                    value = findById(field.getTargetClass(), relationMap.get("id"));
+                }
+            }
+
+            field.set(entity, field.convert(value));
+        }
+    }
+
+    /**
+     * First pass: walks the payload the same way binding does and records every
+     * related entity referenced by UUID, grouped by related class.
+     */
+    private void collectReferences(Map<String, Object> data, Class<?> entityClass, Map<Class<?>, Set<String>> references) {
+        for (FieldBinding field : bindingRegistry.getBinding(entityClass).getFields()) {
+            RelationshipKind kind = field.getRelationshipKind();
+            if (!kind.isRelationship()) {
+                continue;
+            }
+            Class<?> targetClass = field.getTargetClass();
+
+            if (data.containsKey(field.getName())) {
+                Object value = data.get(field.getName());
+                if (kind.isToMany() && value instanceof List<?> items) {
+                    for (Object item : items) {
+                        if (item instanceof Map) {
+                            @SuppressWarnings("unchecked")
+                            Map<String, Object> itemMap = (Map<String, Object>) item;
+                            if (itemMap.get("uuid") instanceof String uuid) {
+                                addReference(references, targetClass, uuid);
+                            }
+                            collectReferences(itemMap, targetClass, references);
+                        } else if (item instanceof String uuid) {
+                            addReference(references, targetClass, uuid);
+                        }
+                    }
+                } else if (kind.isToOne() && value instanceof Map<?, ?> relationMap
+                        && relationMap.get("uuid") instanceof String uuid) {
+                    addReference(references, targetClass, uuid);
+                }
+            } else if (kind.isToOne() && data.get(field.getReferenceKey()) instanceof String uuid) {
+                addReference(references, targetClass, uuid);
+            }
+        }
+    }
+
+    private void addReference(Map<Class<?>, Set<String>> references, Class<?> targetClass, String uuid) {
+        references.computeIfAbsent(targetClass, key -> new LinkedHashSet<>()).add(uuid);
+    }
+
+    /**
+     * Loads all collected references with one batched query per related class.
+     */
+    private ResolvedReferences resolveReferences(Map<Class<?>, Set<String>> references) {
+        Map<Class<?>, Map<String, BaseEntity>> resolved = new HashMap<>();
+        references.forEach((targetClass, uuids) -> {
+            Map<String, BaseEntity> byUuid = new HashMap<>();
+            for (BaseEntity entity : genericRepository.findAllByUuids(asBaseEntityClass(targetClass), uuids)) {
+                byUuid.put(entity.getUuid(), entity);
+            }
+            resolved.put(targetClass, byUuid);
+        });
+        return new ResolvedReferences(resolved);
+    }
+
+    private List<Object> bindCollection(Class<?> relatedClass, List<?> items, ResolvedReferences references) {
+        List<Object> relatedEntities = new ArrayList<>();
+
+        for (Object item : items) {
+            if (item instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> itemMap = (Map<String, Object>) item;
+
+                Object relatedEntity;
+                if (itemMap.containsKey("uuid")) {
+                    // Link the existing entity and update it with the nested fields
+                    relatedEntity = references.require(relatedClass, (String) itemMap.get("uuid"));
+                } else {
+                    relatedEntity = bindingRegistry.getBinding(relatedClass).newInstance();
+                }
+                bind(relatedEntity, itemMap, relatedClass, references);
+                relatedEntities.add(relatedEntity);
+            } else if (item instanceof String uuid) {
+                relatedEntities.add(references.require(relatedClass, uuid));
+            }
+        }
+
+        return relatedEntities;
+    }
+
+    private BaseEntity findById(Class<?> relatedClass, Object idValue) {
+        return genericRepository.findById(asBaseEntityClass(relatedClass), convertToLong(idValue));
+    }
+
+    /**
+     * Converts a value to Long for entity ID lookups.
+     */
+    private Long convertToLong(Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).longValue();
+        } else {
+            return Long.parseLong(value.toString());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends BaseEntity> asBaseEntityClass(Class<?> clazz) {
+        if (!BaseEntity.class.isAssignableFrom(clazz)) {
+            throw new IllegalArgumentException("Class " + clazz.getName() + " does not extend BaseEntity");
+        }
+        return (Class<? extends BaseEntity>) clazz;
+    }
+
+    /**
+     * Binds payloads whose references were preloaded together by {@link #batch}.
+     */
+    public final class Batch {
+
+        private final Class<?> entityClass;
+        private final ResolvedReferences references;
+
+        private Batch(Class<?> entityClass, ResolvedReferences references) {
+            this.entityClass = entityClass;
+            this.references = references;
+        }
+
+        /**
+         * Creates a new entity and binds one of the batch payloads onto it.
+         */
+        public <T extends BaseEntity> T create(Class<T> type, Map<String, Object> data) {
+            T entity = type.cast(bindingRegistry.getBinding(entityClass).newInstance());
+            bind(entity, data);
+            return entity;
+        }
+
+        /**
+         * Binds one of the batch payloads onto an existing entity.
+         */
+        public void bind(Object entity, Map<String, Object> data) {
+            EntityBinder.this.bind(entity, data, entityClass, references);
+        }
+    }
+
+    /**
+     * Related entities preloaded by the first binding pass, keyed by class and UUID.
+     */
+    private record ResolvedReferences(Map<Class<?>, Map<String, BaseEntity>> entities) {
+
+        BaseEntity require(Class<?> relatedClass, String uuid) {
+            BaseEntity related = entities.getOrDefault(relatedClass, Map.of()).get(uuid);
+            if (related == null) {
+                throw new IllegalArgumentException("Related entity " + relatedClass.getSimpleName()
+                        + " with UUID " + uuid + " not found");
+            }
+            return related;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.adavance.javabase.binding;
+
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Precomputed binding metadata for an entity class.
+ * Holds a constructor handle and the bindable fields of the class and its superclasses,
+ * so that request binding needs no reflection lookups.
+ */
+public final class EntityBinding {
+
+    /**
+     * Fields managed by JPA lifecycle callbacks, never bound from request data.
+     */
+    private static final Set<String> MANAGED_FIELDS = Set.of("id", "uuid", "createdAt", "updatedAt");
+
+    @Getter
+    private final Class<?> entityClass;
+
+    private final MethodHandle constructor;
+
+    /**
+     * Bindable fields, subclass fields first, in declaration order.
+     */
+    @Getter
+    private final List<FieldBinding> fields;
+
+    private final Map<String, FieldBinding> fieldsByName;
+
+    private EntityBinding(Class<?> entityClass, MethodHandle constructor, List<FieldBinding> fields) {
+        this.entityClass = entityClass;
+        this.constructor = constructor;
+        this.fields = Collections.unmodifiableList(fields);
+        Map<String, FieldBinding> byName = new LinkedHashMap<>();
+        fields.forEach(field -> byName.putIfAbsent(field.getName(), field));
+        this.fieldsByName = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * Builds the binding metadata for a class. This is the only place where reflection is used.
+     */
+    static EntityBinding of(Class<?> entityClass) {
+        List<FieldBinding> fields = new ArrayList<>();
+        Class<?> currentClass = entityClass;
+        while (currentClass != null && currentClass != Object.class) {
+            MethodHandles.Lookup lookup = privateLookup(currentClass);
+            for (Field field : currentClass.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()
+                        || MANAGED_FIELDS.contains(field.getName())) {
+                    continue;
+                }
+                fields.add(FieldBinding.of(field, lookup));
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+        return new EntityBinding(entityClass, findConstructor(entityClass), fields);
+    }
+
+    /**
+     * Creates a new instance using the no-args constructor.
+     */
+    public Object newInstance() {
+        if (constructor == null) {
+            throw new IllegalStateException("Class " + entityClass.getName() + " has no no-args constructor");
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to instantiate " + entityClass.getName(), t);
+        }
+    }
+
+    /**
+     * Gets a bindable field by name.
+     */
+    public Optional<FieldBinding> getField(String name) {
+        return Optional.ofNullable(fieldsByName.get(name));
+    }
+
+    private static MethodHandles.Lookup privateLookup(Class<?> clazz) {
+        try {
+            return MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access class " + clazz.getName(), e);
+        }
+    }
+
+    private static MethodHandle findConstructor(Class<?> clazz) {
+        try {
+            return privateLookup(clazz)
+                    .findConstructor(clazz, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.adavance.javabase.binding;
+
+import com.adavance.javabase.util.EntityDiscovery;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of precomputed entity bindings.
+ * Bindings for all entities discovered by EntityDiscovery, and for every entity reachable
+ * from them through relationships, are built once at startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityBindingRegistry {
+
+    private final EntityDiscovery entityDiscovery;
+    private final Map<Class<?>, EntityBinding> bindings = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void buildBindings() {
+        for (Class<?> entityClass : entityDiscovery.getAllEntityClasses()) {
+            register(entityClass);
+        }
+        log.debug("Built entity bindings for {} classes", bindings.size());
+    }
+
+    /**
+     * Gets the binding for a class, building it on first use if it was not reachable at startup.
+     */
+    public EntityBinding getBinding(Class<?> entityClass) {
+        EntityBinding binding = bindings.get(entityClass);
+        if (binding == null) {
+            binding = EntityBinding.of(entityClass);
+            EntityBinding existing = bindings.putIfAbsent(entityClass, binding);
+            if (existing != null) {
+                binding = existing;
+            }
+        }
+        return binding;
+    }
+
+    private void register(Class<?> entityClass) {
+        if (bindings.containsKey(entityClass)) {
+            return;
+        }
+        EntityBinding binding = EntityBinding.of(entityClass);
+        bindings.put(entityClass, binding);
+        for (FieldBinding field : binding.getFields()) {
+            if (field.getTargetClass() != null) {
+                register(field.getTargetClass());
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.adavance.javabase.binding;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * Precomputed binding metadata for a single entity field: accessors, relationship kind,
+ * related entity class and value converter.
+ */
+@Getter
+public final class FieldBinding {
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final String name;
+    private final Class<?> type;
+    private final RelationshipKind relationshipKind;
+
+    /**
+     * The related entity class: the field type for to-one relationships,
+     * the element type for to-many relationships, null otherwise.
+     */
+    private final Class<?> targetClass;
+
+    /**
+     * The request key that references a to-one relationship by UUID or id, e.g. "itemId".
+     */
+    private final String referenceKey;
+
+    /**
+     * Whether the field is excluded from JSON output (@JsonIgnore).
+     */
+    private final boolean hidden;
+
+    /**
+     * Whether the field is computed by the server and never bound from request data
+     * (@JsonProperty(access = READ_ONLY)).
+     */
+    private final boolean readOnly;
+
+    @Getter(AccessLevel.NONE)
+    private final MethodHandle setter;
+
+    @Getter(AccessLevel.NONE)
+    private final MethodHandle getter;
+
+    @Getter(AccessLevel.NONE)
+    private final Function<Object, Object> converter;
+
+    private FieldBinding(Field field, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        this.name = field.getName();
+        this.type = field.getType();
+        this.relationshipKind = RelationshipKind.of(field);
+        this.targetClass = resolveTargetClass(field, relationshipKind);
+        this.referenceKey = name + "Id";
+        this.hidden = field.isAnnotationPresent(JsonIgnore.class);
+        JsonProperty property = field.getAnnotation(JsonProperty.class);
+        this.readOnly = property != null && property.access() == JsonProperty.Access.READ_ONLY;
+        this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        this.converter = TypeConverters.forType(type);
+    }
+
+    static FieldBinding of(Field field, MethodHandles.Lookup lookup) {
+        try {
+            return new FieldBinding(field, lookup);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access field " + field.getDeclaringClass().getSimpleName()
+                    + "." + field.getName(), e);
+        }
+    }
+
+    /**
+     * Sets the field on the given entity.
+     */
+    public void set(Object entity, Object value) {
+        try {
+            setter.invokeExact(entity, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to set field " + name, t);
+        }
+    }
+
+    /**
+     * Reads the field from the given entity.
+     */
+    public Object get(Object entity) {
+        try {
+            return (Object) getter.invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to read field " + name, t);
+        }
+    }
+
+    /**
+     * Converts a request value to this field's type.
+     */
+    public Object convert(Object value) {
+        return converter.apply(value);
+    }
+
+    private static Class<?> resolveTargetClass(Field field, RelationshipKind kind) {
+        if (kind.isToOne()) {
+            return field.getType();
+        }
+        if (kind.isToMany() && field.getGenericType() instanceof ParameterizedType parameterizedType) {
+            Type elementType = parameterizedType.getActualTypeArguments()[0];
+            if (elementType instanceof Class<?> elementClass) {
+                return elementClass;
+            }
+        }
+        return null;
+    }
+}
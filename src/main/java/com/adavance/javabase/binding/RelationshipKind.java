@@ -0,0 +1,44 @@
+package com.adavance.javabase.binding;
+
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+
+import java.lang.reflect.Field;
+
+/**
+ * The JPA relationship type of an entity field, resolved once from its annotations.
+ */
+public enum RelationshipKind {
+    NONE,
+    MANY_TO_ONE,
+    ONE_TO_ONE,
+    ONE_TO_MANY,
+    MANY_TO_MANY;
+
+    public boolean isRelationship() {
+        return this != NONE;
+    }
+
+    public boolean isToOne() {
+        return this == MANY_TO_ONE || this == ONE_TO_ONE;
+    }
+
+    public boolean isToMany() {
+        return this == ONE_TO_MANY || this == MANY_TO_MANY;
+    }
+
+    static RelationshipKind of(Field field) {
+        if (field.isAnnotationPresent(ManyToOne.class)) {
+            return MANY_TO_ONE;
+        } else if (field.isAnnotationPresent(OneToOne.class)) {
+            return ONE_TO_ONE;
+        } else if (field.isAnnotationPresent(OneToMany.class)) {
+            return ONE_TO_MANY;
+        } else if (field.isAnnotationPresent(ManyToMany.class)) {
+            return MANY_TO_MANY;
+        }
+        return NONE;
+    }
+}
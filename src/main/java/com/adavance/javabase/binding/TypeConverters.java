@@ -0,0 +1,66 @@
+package com.adavance.javabase.binding;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Builds the conversion function used to turn JSON request values into field values.
+ * The function is selected once per field type, so binding only pays for the conversion itself.
+ */
+public final class TypeConverters {
+
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+            String.class, Integer.class, int.class, Long.class, long.class,
+            Boolean.class, boolean.class, BigDecimal.class, Instant.class);
+
+    private TypeConverters() {
+        // Private constructor to hide the implicit public one
+    }
+
+    /**
+     * Returns a converter for the given target type.
+     * Values that already have the target type, and values of unsupported types,
+     * are passed through unchanged.
+     */
+    public static Function<Object, Object> forType(Class<?> targetType) {
+        Function<Object, Object> conversion = conversionFor(targetType);
+        return value -> {
+            if (value == null) {
+                return null;
+            }
+            if (targetType.isInstance(value)) {
+                return value;
+            }
+            return conversion.apply(value);
+        };
+    }
+
+    /**
+     * Whether values of the given type can be converted from their string form.
+     */
+    public static boolean supports(Class<?> type) {
+        return SUPPORTED_TYPES.contains(type);
+    }
+
+    private static Function<Object, Object> conversionFor(Class<?> targetType) {
+        if (targetType == String.class) {
+            return Object::toString;
+        } else if (targetType == Integer.class || targetType == int.class) {
+            return value -> value instanceof Number number ? number.intValue() : Integer.parseInt(value.toString());
+        } else if (targetType == Long.class || targetType == long.class) {
+            return value -> value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+        } else if (targetType == Boolean.class || targetType == boolean.class) {
+            return value -> value instanceof Boolean ? value : Boolean.parseBoolean(value.toString());
+        } else if (targetType == BigDecimal.class) {
+            return value -> value instanceof Number number
+                    ? BigDecimal.valueOf(number.doubleValue())
+                    : new BigDecimal(value.toString());
+        } else if (targetType == Instant.class) {
+            return value -> value instanceof String string ? Instant.parse(string) : value;
+        }
+        // For other types, try to return as is (might work for nested objects)
+        return Function.identity();
+    }
+}
@@ -0,0 +1,162 @@
+package com.adavance.javabase.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead limiting the number of /rest requests that run at the same time to the size of the
+ * database connection pool.
+ * 
+ * With virtual threads (spring.threads.virtual.enabled) Tomcat no longer caps concurrency with
+ * its thread pool, so thousands of requests could otherwise compete for a few connections and
+ * time out in Hikari. Here they wait on a fair semaphore instead, which only parks a cheap
+ * virtual thread, and are answered with 503 if no permit frees up within acquire-timeout.
+ * Streamed responses keep their permit until the async request completes.
+ * 
+ * Active, waiting and rejected requests are published as javabase.bulkhead.* metrics.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DatabaseBulkheadFilter extends OncePerRequestFilter {
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${javabase.bulkhead.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Maximum concurrent requests; 0 uses the Hikari maximum pool size.
+     */
+    @Value("${javabase.bulkhead.max-concurrent:0}")
+    private int maxConcurrent;
+
+    @Value("${javabase.bulkhead.acquire-timeout:5s}")
+    private Duration acquireTimeout;
+
+    private Semaphore permits;
+    private int permitCount;
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        permitCount = maxConcurrent > 0 ? maxConcurrent : poolSize();
+        permits = new Semaphore(permitCount, true);
+        log.info("Database bulkhead {} with {} permits", enabled ? "enabled" : "disabled", permitCount);
+
+        Gauge.builder("javabase.bulkhead.active", this, filter -> filter.permitCount - filter.permits.availablePermits())
+                .description("/rest requests holding a bulkhead permit")
+                .register(meterRegistry);
+        Gauge.builder("javabase.bulkhead.waiting", permits, Semaphore::getQueueLength)
+                .description("/rest requests waiting for a bulkhead permit")
+                .register(meterRegistry);
+        FunctionCounter.builder("javabase.bulkhead.rejected", rejected, LongAdder::doubleValue)
+                .description("/rest requests rejected with 503 because no permit was available in time")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith(request.getContextPath() + "/rest/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Server busy, retry later\"}");
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private int poolSize() {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        } catch (Exception e) {
+            log.warn("Could not determine the connection pool size, set javabase.bulkhead.max-concurrent");
+            return 10;
+        }
+    }
+
+    /**
+     * Releases the permit of an async (streamed) request once it finishes, however it ends.
+     */
+    private record ReleasingAsyncListener(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // The listener stays registered for the restarted request
+        }
+    }
+}
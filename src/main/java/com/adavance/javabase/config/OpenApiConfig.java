@@ -88,19 +88,49 @@ public class OpenApiConfig {
 
             PathItem pathItem = new PathItem();
 
-            // GET /rest/{entityName} - List all entities
+            // GET /rest/{entityName} - List entities page by page
             Operation listOperation = new Operation()
                     .summary("Get all " + entityName + " entities")
-                    .description("Retrieves a list of all " + entityName + " entities")
+                    .description("Retrieves a page of " + entityName + " entities. "
+                            + "Pass the returned 'next' cursor to fetch the following page. "
+                            + "Filter with attribute=value or attribute[op]=value, where op is one of "
+                            + "eq, ne, lt, gt, in (comma-separated values) or like (strings only).")
                     .operationId("getAll" + schemaName + "Entities")
+                    .addParametersItem(new Parameter()
+                            .name("cursor")
+                            .in("query")
+                            .required(false)
+                            .description("Opaque cursor returned as 'next' by the previous page")
+                            .schema(new Schema<>().type("string")))
+                    .addParametersItem(new Parameter()
+                            .name("limit")
+                            .in("query")
+                            .required(false)
+                            .description("Maximum number of entities in the page (capped by the server)")
+                            .schema(new Schema<>().type("integer").format("int32")))
+                    .addParametersItem(new Parameter()
+                            .name("sort")
+                            .in("query")
+                            .required(false)
+                            .description("Comma-separated non-null attributes to sort by; prefix with '-' for descending")
+                            .schema(new Schema<>().type("string")))
+                    .addParametersItem(fieldsParameter())
+                    .addParametersItem(expandParameter())
                     .responses(new ApiResponses()
                             .addApiResponse("200", new ApiResponse()
                                     .description("Successful response")
                                     .content(new Content()
                                             .addMediaType("application/json", new MediaType()
                                                     .schema(new Schema<>()
-                                                            .type("array")
-                                                            .items(new Schema<>().$ref("#/components/schemas/" + schemaName))))))
+                                                            .type("object")
+                                                            .addProperty("items", new Schema<>()
+                                                                    .type("array")
+                                                                    .items(new Schema<>().$ref("#/components/schemas/" + schemaName)))
+                                                            .addProperty("next", new Schema<>()
+                                                                    .type("string")
+                                                                    .nullable(true))))))
+                            .addApiResponse("304", new ApiResponse().description("Not modified since the given ETag"))
+                            .addApiResponse("400", new ApiResponse().description("Invalid cursor, limit, filter, sort, fields or expand"))
                             .addApiResponse("404", new ApiResponse().description("Entity type not found"))
                             .addApiResponse("500", new ApiResponse().description("Internal server error")));
             pathItem.setGet(listOperation);
@@ -145,12 +175,16 @@ public class OpenApiConfig {
                             .required(true)
                             .description("Entity UUID")
                             .schema(new Schema<>().type("string").format("uuid")))
+                    .addParametersItem(fieldsParameter())
+                    .addParametersItem(expandParameter())
                     .responses(new ApiResponses()
                             .addApiResponse("200", new ApiResponse()
                                     .description("Successful response")
                                     .content(new Content()
                                             .addMediaType("application/json", new MediaType()
                                                     .schema(new Schema<>().$ref("#/components/schemas/" + schemaName)))))
+                            .addApiResponse("304", new ApiResponse().description("Not modified since the given ETag / date"))
+                            .addApiResponse("400", new ApiResponse().description("Invalid fields or expand"))
                             .addApiResponse("404", new ApiResponse().description("Entity not found"))
                             .addApiResponse("500", new ApiResponse().description("Internal server error")));
             pathItemWithUuid.setGet(getByUuidOperation);
@@ -201,9 +235,141 @@ public class OpenApiConfig {
             pathItemWithUuid.setDelete(deleteOperation);
 
             openAPI.path(pathWithUuid, pathItemWithUuid);
+
+            // Bulk operations: POST, PUT and DELETE on /rest/{entityName}/_bulk
+            Schema<?> bulkResultsSchema = new Schema<>()
+                    .type("array")
+                    .items(new Schema<>()
+                            .type("object")
+                            .addProperty("index", new Schema<>().type("integer"))
+                            .addProperty("status", new Schema<>().type("integer"))
+                            .addProperty("uuid", new Schema<>().type("string").format("uuid"))
+                            .addProperty("error", new Schema<>().type("string")));
+            PathItem bulkPathItem = new PathItem();
+
+            bulkPathItem.setPost(new Operation()
+                    .summary("Create many " + entityName + " entities")
+                    .description("Creates all entities in the array in a single transaction. "
+                            + "If any item fails, nothing is persisted and the failed items are reported")
+                    .operationId("bulkCreate" + schemaName + "Entities")
+                    .requestBody(new RequestBody()
+                            .required(true)
+                            .content(new Content()
+                                    .addMediaType("application/json", new MediaType()
+                                            .schema(new Schema<>()
+                                                    .type("array")
+                                                    .items(new Schema<>().$ref("#/components/schemas/" + schemaName))))))
+                    .responses(new ApiResponses()
+                            .addApiResponse("201", new ApiResponse()
+                                    .description("Entities created successfully")
+                                    .content(new Content()
+                                            .addMediaType("application/json", new MediaType().schema(bulkResultsSchema))))
+                            .addApiResponse("400", new ApiResponse().description("One or more items failed"))
+                            .addApiResponse("404", new ApiResponse().description("Entity type not found"))));
+
+            bulkPathItem.setPut(new Operation()
+                    .summary("Update many " + entityName + " entities")
+                    .description("Updates all entities in the array, each identified by its uuid, in a single transaction")
+                    .operationId("bulkUpdate" + schemaName + "Entities")
+                    .requestBody(new RequestBody()
+                            .required(true)
+                            .content(new Content()
+                                    .addMediaType("application/json", new MediaType()
+                                            .schema(new Schema<>()
+                                                    .type("array")
+                                                    .items(new Schema<>().$ref("#/components/schemas/" + schemaName))))))
+                    .responses(new ApiResponses()
+                            .addApiResponse("200", new ApiResponse()
+                                    .description("Entities updated successfully")
+                                    .content(new Content()
+                                            .addMediaType("application/json", new MediaType().schema(bulkResultsSchema))))
+                            .addApiResponse("400", new ApiResponse().description("One or more items failed"))
+                            .addApiResponse("404", new ApiResponse().description("Entity type not found"))));
+
+            bulkPathItem.setDelete(new Operation()
+                    .summary("Delete many " + entityName + " entities")
+                    .description("Deletes all entities whose UUIDs are given in the array, in a single transaction")
+                    .operationId("bulkDelete" + schemaName + "Entities")
+                    .requestBody(new RequestBody()
+                            .required(true)
+                            .content(new Content()
+                                    .addMediaType("application/json", new MediaType()
+                                            .schema(new Schema<>()
+                                                    .type("array")
+                                                    .items(new Schema<>().type("string").format("uuid"))))))
+                    .responses(new ApiResponses()
+                            .addApiResponse("200", new ApiResponse()
+                                    .description("Entities deleted successfully")
+                                    .content(new Content()
+                                            .addMediaType("application/json", new MediaType().schema(bulkResultsSchema))))
+                            .addApiResponse("400", new ApiResponse().description("One or more items failed"))
+                            .addApiResponse("404", new ApiResponse().description("Entity type not found"))));
+
+            openAPI.path(path + "/_bulk", bulkPathItem);
+
+            // GET /rest/{entityName}/_aggregate - Group and aggregate in the database
+            Operation aggregateOperation = new Operation()
+                    .summary("Aggregate " + entityName + " entities")
+                    .description("Groups the " + entityName + " entities matching the filters and computes "
+                            + "aggregates per group in a single query. Filters are the same as for listing.")
+                    .operationId("aggregate" + schemaName + "Entities")
+                    .addParametersItem(new Parameter()
+                            .name("groupBy")
+                            .in("query")
+                            .required(false)
+                            .description("Comma-separated scalar attributes, to-one relationships (grouped by uuid) "
+                                    + "or temporal attributes with a time bucket, e.g. status,product,createdAt:month "
+                                    + "(buckets: year, month, day)")
+                            .schema(new Schema<>().type("string")))
+                    .addParametersItem(new Parameter()
+                            .name("metrics")
+                            .in("query")
+                            .required(false)
+                            .description("Comma-separated aggregates: count, or count, sum, avg, min or max of a "
+                                    + "numeric attribute, e.g. count,sum:totalPrice (default: count)")
+                            .schema(new Schema<>().type("string")))
+                    .responses(new ApiResponses()
+                            .addApiResponse("200", new ApiResponse()
+                                    .description("One object per group with the grouping keys and the aggregates")
+                                    .content(new Content()
+                                            .addMediaType("application/json", new MediaType()
+                                                    .schema(new Schema<>()
+                                                            .type("object")
+                                                            .addProperty("groups", new Schema<>()
+                                                                    .type("array")
+                                                                    .items(new Schema<>().type("object")))
+                                                            .addProperty("truncated", new Schema<>().type("boolean"))))))
+                            .addApiResponse("400", new ApiResponse().description("Invalid groupBy, metrics or filter"))
+                            .addApiResponse("404", new ApiResponse().description("Entity type not found"))
+                            .addApiResponse("500", new ApiResponse().description("Internal server error")));
+            openAPI.path(path + "/_aggregate", new PathItem().get(aggregateOperation));
         }
     }
 
+    /**
+     * Sparse fieldset parameter shared by the list and get operations.
+     */
+    private Parameter fieldsParameter() {
+        return new Parameter()
+                .name("fields")
+                .in("query")
+                .required(false)
+                .description("Comma-separated scalar attributes to return instead of the whole entity")
+                .schema(new Schema<>().type("string"));
+    }
+
+    /**
+     * Relationship expansion parameter shared by the list and get operations.
+     */
+    private Parameter expandParameter() {
+        return new Parameter()
+                .name("expand")
+                .in("query")
+                .required(false)
+                .description("Comma-separated relationship paths to load and include, e.g. product,selectedAddOns.addOn")
+                .schema(new Schema<>().type("string"));
+    }
+
     /**
      * Converts a class name to kebab-case.
      * Example: AddOnLevel -> add-on-level
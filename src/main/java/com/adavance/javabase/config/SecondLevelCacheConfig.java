@@ -0,0 +1,93 @@
+package com.adavance.javabase.config;
+
+import com.adavance.javabase.annotations.CachedEntity;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OneToMany;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration for the Hibernate second-level cache.
+ * Registers every entity annotated with @CachedEntity, and its cacheable collections,
+ * as cached regions through the hibernate.classcache / hibernate.collectioncache settings.
+ * The cache provider itself is configured in application.yaml.
+ */
+@Configuration
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    private static final String CLASS_CACHE_PREFIX = "hibernate.classcache.";
+    private static final String COLLECTION_CACHE_PREFIX = "hibernate.collectioncache.";
+
+    @Bean
+    public HibernatePropertiesCustomizer cachedEntitiesCustomizer(BeanFactory beanFactory) {
+        return properties -> {
+            for (Class<?> entityClass : findCachedEntities(beanFactory)) {
+                registerCachedEntity(entityClass, properties);
+            }
+        };
+    }
+
+    private void registerCachedEntity(Class<?> entityClass, Map<String, Object> properties) {
+        CachedEntity cachedEntity = entityClass.getAnnotation(CachedEntity.class);
+        String accessType = cachedEntity.strategy().toAccessType().getExternalName();
+        properties.put(CLASS_CACHE_PREFIX + entityClass.getName(), accessType);
+        log.debug("Caching entity {} ({})", entityClass.getSimpleName(), accessType);
+
+        if (!cachedEntity.collections()) {
+            return;
+        }
+        for (Field field : entityClass.getDeclaredFields()) {
+            if (isCacheableCollection(field)) {
+                properties.put(COLLECTION_CACHE_PREFIX + entityClass.getName() + "." + field.getName(), accessType);
+            }
+        }
+    }
+
+    /**
+     * A collection is only worth caching if its elements are cached too; otherwise a cache hit
+     * would still load every element with its own query.
+     */
+    private boolean isCacheableCollection(Field field) {
+        if (field.isAnnotationPresent(ElementCollection.class)) {
+            return true;
+        }
+        if (!field.isAnnotationPresent(OneToMany.class) && !field.isAnnotationPresent(ManyToMany.class)) {
+            return false;
+        }
+        return field.getGenericType() instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementClass
+                && elementClass.isAnnotationPresent(CachedEntity.class);
+    }
+
+    private List<Class<?>> findCachedEntities(BeanFactory beanFactory) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(CachedEntity.class));
+
+        List<Class<?>> entityClasses = new ArrayList<>();
+        for (String basePackage : AutoConfigurationPackages.get(beanFactory)) {
+            scanner.findCandidateComponents(basePackage).forEach(candidate -> {
+                Class<?> entityClass = ClassUtils.resolveClassName(candidate.getBeanClassName(), ClassUtils.getDefaultClassLoader());
+                if (entityClass.isAnnotationPresent(Entity.class)) {
+                    entityClasses.add(entityClass);
+                }
+            });
+        }
+        return entityClasses;
+    }
+}
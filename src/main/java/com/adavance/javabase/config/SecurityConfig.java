@@ -1,25 +1,75 @@
 package com.adavance.javabase.config;
 
+import com.adavance.javabase.security.PermissionAuthorizationFilter;
+import com.adavance.javabase.security.PermissionService;
+import com.adavance.javabase.security.TokenAuthenticationFilter;
+import com.adavance.javabase.security.TokenService;
+import com.adavance.javabase.security.UserAuthenticationProvider;
+import com.adavance.javabase.util.EntityDiscovery;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.util.Map;
 
 /**
  * Spring Security configuration.
- * Currently configured to allow all endpoints without authentication.
+ * By default all endpoints are allowed without authentication. With javabase.security.enabled,
+ * /rest and /quoteplus requests require a bearer token from /auth/token or HTTP Basic
+ * authentication, and /rest requests are authorized per entity and action against the user's
+ * role permissions (e.g. "Quote.read", "User.*"). The /quoteplus endpoints require the
+ * permission of the data they serve, see QUOTEPLUS_PERMISSIONS.
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /**
+     * Permissions required by the /quoteplus endpoints, by path prefix: the catalog and price
+     * simulations expose product prices, the dashboard quote revenue.
+     */
+    private static final Map<String, String> QUOTEPLUS_PERMISSIONS = Map.of(
+            "/quoteplus/catalog", "Product.read",
+            "/quoteplus/pricing", "Product.read",
+            "/quoteplus/dashboard", "Quote.read");
+
+    @Value("${javabase.security.enabled:false}")
+    private boolean securityEnabled;
+
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   UserAuthenticationProvider userAuthenticationProvider,
+                                                   PermissionService permissionService,
+                                                   TokenService tokenService,
+                                                   EntityDiscovery entityDiscovery) throws Exception {
+        if (!securityEnabled) {
+            http
+                .authorizeHttpRequests(authorize -> authorize
+                    .anyRequest().permitAll()
+                )
+                .csrf(csrf -> csrf.disable()); // Disable CSRF for stateless APIs
+
+            return http.build();
+        }
+
         http
             .authorizeHttpRequests(authorize -> authorize
+                .requestMatchers("/rest/**", "/quoteplus/**").authenticated()
                 .anyRequest().permitAll()
             )
+            .httpBasic(Customizer.withDefaults())
+            .addFilterBefore(new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
+            .authenticationProvider(userAuthenticationProvider)
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .addFilterAfter(new PermissionAuthorizationFilter(permissionService, entityDiscovery, QUOTEPLUS_PERMISSIONS),
+                    AuthorizationFilter.class)
             .csrf(csrf -> csrf.disable()); // Disable CSRF for stateless APIs
 
         return http.build();
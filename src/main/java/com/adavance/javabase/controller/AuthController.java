@@ -0,0 +1,62 @@
+package com.adavance.javabase.controller;
+
+import com.adavance.javabase.security.TokenAuthentication;
+import com.adavance.javabase.security.TokenService;
+import com.adavance.javabase.security.UserAuthenticationProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Issues and revokes access tokens:
+ * - POST /auth/token - Exchange {"username", "password"} for a bearer token
+ * - POST /auth/revoke - Revoke the bearer token the request is authenticated with
+ * 
+ * Tokens carry the user's permissions, so requests authenticated with one are authorized
+ * without loading the user.
+ */
+@RestController
+@RequestMapping("/auth")
+@RequiredArgsConstructor
+@Slf4j
+public class AuthController {
+
+    private final UserAuthenticationProvider userAuthenticationProvider;
+    private final TokenService tokenService;
+
+    public record TokenRequest(String username, String password) {
+    }
+
+    @PostMapping("/token")
+    public ResponseEntity<?> token(@RequestBody TokenRequest request) {
+        return userAuthenticationProvider.verify(request.username(), request.password())
+                .<ResponseEntity<?>>map(user -> {
+                    TokenService.IssuedToken issued = tokenService.issue(user);
+                    return ResponseEntity.ok(Map.of(
+                            "token", issued.token(),
+                            "tokenType", "Bearer",
+                            "expiresAt", issued.expiresAt()));
+                })
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Bad credentials")));
+    }
+
+    @PostMapping("/revoke")
+    public ResponseEntity<?> revoke() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!(authentication instanceof TokenAuthentication tokenAuthentication)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Request is not authenticated with a token"));
+        }
+        tokenService.revoke(tokenAuthentication.getClaims());
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.adavance.javabase.controller;
+
+/**
+ * Outcome of one item of a bulk request.
+ *
+ * @param index  the position of the item in the request array
+ * @param status the HTTP status the item would have had as a single request
+ * @param uuid   the UUID of the affected entity, if known
+ * @param error  the error message, if the item failed
+ */
+public record BulkItemResult(int index, int status, String uuid, String error) {
+
+    static BulkItemResult success(int index, int status, String uuid) {
+        return new BulkItemResult(index, status, uuid, null);
+    }
+
+    static BulkItemResult failure(int index, int status, String uuid, String error) {
+        return new BulkItemResult(index, status, uuid, error);
+    }
+}
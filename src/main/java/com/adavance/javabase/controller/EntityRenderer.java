@@ -0,0 +1,114 @@
+package com.adavance.javabase.controller;
+
+import com.adavance.javabase.binding.EntityBinding;
+import com.adavance.javabase.binding.EntityBindingRegistry;
+import com.adavance.javabase.binding.FieldBinding;
+import com.adavance.javabase.model.BaseEntity;
+import com.adavance.javabase.repository.FetchPlan;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Renders entities into JSON-ready maps following a fetch plan. All entity responses of
+ * GenericRestController go through it, so Jackson never sees Hibernate proxies or walks
+ * the two sides of a bidirectional relationship.
+ * 
+ * Scalar fields are always rendered. Relationships in the plan are rendered in full; other
+ * to-one relationships as {"uuid": ...}, and other collections only when they are already
+ * loaded, with their items rendered flat (scalar fields and to-one uuids only), so
+ * serialization never loads a collection that was not requested and never loops.
+ * 
+ * Relationships not fetch-joined by the query are initialized here on access. With
+ * hibernate.default_batch_fetch_size set, the first access loads the same relationship for
+ * the whole batch of entities in the persistence context, so the number of queries depends
+ * on the number of expanded paths rather than on the number of entities.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityRenderer {
+
+    private final EntityBindingRegistry entityBindingRegistry;
+
+    /**
+     * Renders a list of entities.
+     */
+    public List<Map<String, Object>> renderAll(Collection<? extends BaseEntity> entities, FetchPlan fetchPlan) {
+        List<Map<String, Object>> rendered = new ArrayList<>(entities.size());
+        for (BaseEntity entity : entities) {
+            rendered.add(render(entity, fetchPlan));
+        }
+        return rendered;
+    }
+
+    /**
+     * Renders an entity with the relationships of the fetch plan.
+     */
+    public Map<String, Object> render(BaseEntity entity, FetchPlan fetchPlan) {
+        return render(entity, fetchPlan, true);
+    }
+
+    private Map<String, Object> render(BaseEntity entity, FetchPlan fetchPlan, boolean loadedCollections) {
+        BaseEntity target = (BaseEntity) Hibernate.unproxy(entity);
+        EntityBinding binding = entityBindingRegistry.getBinding(Hibernate.getClass(target));
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("uuid", target.getUuid());
+        values.put("createdAt", target.getCreatedAt());
+        values.put("updatedAt", target.getUpdatedAt());
+
+        for (FieldBinding field : binding.getFields()) {
+            if (field.isHidden()) {
+                continue;
+            }
+            if (field.getTargetClass() == null) {
+                values.put(field.getName(), field.get(target));
+                continue;
+            }
+
+            Optional<FetchPlan> child = fetchPlan.getChild(field.getName());
+            Object value = field.get(target);
+            if (child.isEmpty()) {
+                renderUnplanned(values, field.getName(), value, loadedCollections);
+                continue;
+            }
+            if (value == null) {
+                values.put(field.getName(), null);
+            } else if (value instanceof Collection<?> collection) {
+                List<Map<String, Object>> items = new ArrayList<>(collection.size());
+                for (Object item : collection) {
+                    items.add(render((BaseEntity) item, child.get()));
+                }
+                values.put(field.getName(), items);
+            } else {
+                values.put(field.getName(), render((BaseEntity) value, child.get()));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Renders a relationship that is not part of the plan without following it further.
+     */
+    private void renderUnplanned(Map<String, Object> values, String name, Object value, boolean loadedCollections) {
+        if (value instanceof Collection<?> collection) {
+            if (loadedCollections && Hibernate.isInitialized(collection)) {
+                List<Map<String, Object>> items = new ArrayList<>(collection.size());
+                for (Object item : collection) {
+                    items.add(render((BaseEntity) item, FetchPlan.none(), false));
+                }
+                values.put(name, items);
+            }
+        } else {
+            values.put(name, value != null ? Collections.singletonMap("uuid", ((BaseEntity) value).getUuid()) : null);
+        }
+    }
+}
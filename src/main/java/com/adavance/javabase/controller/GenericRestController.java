@@ -1,34 +1,69 @@
 package com.adavance.javabase.controller;
 
+import com.adavance.javabase.binding.EntityBinder;
 import com.adavance.javabase.model.BaseEntity;
+import com.adavance.javabase.repository.AggregateQuery;
+import com.adavance.javabase.repository.CursorPage;
+import com.adavance.javabase.repository.FetchPlan;
 import com.adavance.javabase.repository.GenericRepository;
+import com.adavance.javabase.repository.ListQuery;
+import com.adavance.javabase.repository.ListVersion;
+import com.adavance.javabase.repository.PageCursor;
 import com.adavance.javabase.util.EntityDiscovery;
 import io.swagger.v3.oas.annotations.Hidden;
 import jakarta.persistence.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
-import java.lang.reflect.Field;
-import java.math.BigDecimal;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Generic REST controller that handles all entity requests under /rest/*
  * 
  * Automatically discovers all @Entity classes annotated with @AutoController
  * and provides CRUD operations:
- * - GET /rest/{entity-name} - List all entities
+ * - GET /rest/{entity-name} - List entities, paginated by cursor, with optional filters and sort
+ *   (streamed as NDJSON with "Accept: application/x-ndjson", or as a JSON array with ?stream=true)
  * - GET /rest/{entity-name}/{uuid} - Get entity by UUID
+ * - GET /rest/{entity-name}/_aggregate - Group and aggregate entities in the database
  * - POST /rest/{entity-name} - Create new entity
  * - PUT /rest/{entity-name}/{uuid} - Update entity
  * - DELETE /rest/{entity-name}/{uuid} - Delete entity
+ * - POST/PUT/DELETE /rest/{entity-name}/_bulk - Create, update or delete many entities at once
+ * 
+ * GET responses carry an ETag derived from updatedAt, and conditional requests are answered
+ * with 304 Not Modified without loading or serializing the entities. Single entities also carry
+ * Last-Modified; list pages are validated by ETag only, since a delete does not move the
+ * latest updatedAt.
+ * 
+ * GET handlers run in read-only transactions: loaded entities are read-only and never
+ * flushed, so Hibernate keeps no dirty-checking snapshots for them.
  * 
  * Only entities annotated with @AutoController will be accessible through this controller.
  */
@@ -41,14 +76,51 @@ public class GenericRestController {
 
     private final EntityDiscovery entityDiscovery;
     private final GenericRepository genericRepository;
+    private final EntityBinder entityBinder;
+    private final ListQueryParser listQueryParser;
+    private final EntityRenderer entityRenderer;
+    private final ObjectMapper objectMapper;
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Value("${javabase.rest.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${javabase.rest.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${javabase.rest.max-bulk-size:1000}")
+    private int maxBulkSize;
+
+    @Value("${javabase.rest.stream.fetch-size:500}")
+    private int streamFetchSize;
+
+    @Value("${javabase.rest.stream.clear-interval:500}")
+    private int streamClearInterval;
+
+    @Value("${javabase.rest.aggregate.max-groups:1000}")
+    private int maxAggregateGroups;
 
     /**
-     * GET /rest/{entityName}
-     * Returns all entities of the specified type.
+     * GET /rest/{entityName}?cursor=...&limit=...&sort=...&fields=...&expand=...&{attribute}[{op}]=...
+     * Returns a page of entities of the specified type matching the filters, together with the
+     * cursor for the next page (null on the last page). With fields, only the selected attributes
+     * of each entity are read and returned; with expand, the given relationship paths are loaded
+     * and rendered. See ListQueryParser for the syntax.
      */
     @GetMapping("/{entityName}")
-    public ResponseEntity<?> getAllEntities(@PathVariable String entityName) {
-        log.debug("GET /rest/{} - Listing all entities", entityName);
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getAllEntities(
+            @PathVariable String entityName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean stream,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand,
+            @RequestParam MultiValueMap<String, String> parameters,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
+        log.debug("GET /rest/{} - Listing entities", entityName);
 
         Optional<Class<?>> entityClassOpt = entityDiscovery.getEntityClass(entityName);
         if (entityClassOpt.isEmpty()) {
@@ -56,11 +128,72 @@ public class GenericRestController {
                     .body(Map.of("error", "Entity not found: " + entityName));
         }
 
+        ListQuery listQuery;
+        PageCursor pageCursor;
+        List<String> selectedFields;
+        FetchPlan fetchPlan;
+        try {
+            listQuery = listQueryParser.parse(entityClassOpt.get(), parameters);
+            selectedFields = listQueryParser.parseFields(entityClassOpt.get(), fields);
+            fetchPlan = listQueryParser.parseExpand(entityClassOpt.get(), expand);
+            pageCursor = cursor != null ? listQueryParser.parseCursor(entityClassOpt.get(), listQuery, cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+
+        if (selectedFields != null && !fetchPlan.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "fields and expand cannot be combined"));
+        }
+
+        boolean ndjson = accept != null && accept.contains(APPLICATION_NDJSON.toString());
+        if ((ndjson || stream) && !fetchPlan.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "expand is not supported when streaming"));
+        }
+        if (ndjson || stream) {
+            return streamEntities(asBaseEntityClass(entityClassOpt.get()), listQuery, selectedFields, ndjson);
+        }
+
+        if (limit != null && limit <= 0) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "limit must be greater than 0"));
+        }
+        int pageSize = Math.min(limit != null ? limit : defaultPageSize, maxPageSize);
+
         try {
             Class<? extends BaseEntity> entityClass = asBaseEntityClass(entityClassOpt.get());
-            List<? extends BaseEntity> results = genericRepository.findAll(entityClass);
 
-            return ResponseEntity.ok(results);
+            // The version only covers this entity's rows, so expanded responses are not validated.
+            // It is read up front for conditional requests and projections, which do not carry
+            // updatedAt; otherwise it is taken from the loaded page.
+            String etag = null;
+            if (fetchPlan.isEmpty()
+                    && (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || selectedFields != null)) {
+                ListVersion version = genericRepository.findListVersion(entityClass, listQuery, pageCursor, pageSize);
+                etag = listEtag(entityClass, version, listQuery, selectedFields, cursor, pageSize);
+                if (webRequest.checkNotModified(etag)) {
+                    return null;
+                }
+            }
+
+            if (selectedFields != null) {
+                return ResponseEntity.ok().eTag(etag).body(genericRepository.findProjectionPage(
+                        entityClass, selectedFields, listQuery, pageCursor, pageSize));
+            }
+
+            CursorPage<? extends BaseEntity> page = genericRepository.findPage(
+                    entityClass, listQuery, fetchPlan, pageCursor, pageSize);
+            List<Map<String, Object>> items = entityRenderer.renderAll(page.items(), fetchPlan);
+            if (!fetchPlan.isEmpty()) {
+                return ResponseEntity.ok(new CursorPage<>(items, page.next()));
+            }
+
+            if (etag == null) {
+                etag = listEtag(entityClass, ListVersion.of(page), listQuery, null, cursor, pageSize);
+            }
+            return ResponseEntity.ok().eTag(etag).body(new CursorPage<>(items, page.next()));
         } catch (Exception e) {
             log.error("Error fetching entities for {}", entityName, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -69,11 +202,117 @@ public class GenericRestController {
     }
 
     /**
-     * GET /rest/{entityName}/{uuid}
-     * Returns a specific entity by UUID.
+     * Streams every entity of the given type matching the list query to the response as it is
+     * read from the database, either as newline-delimited JSON or as a single JSON array.
+     * Runs on the async request executor, so memory use does not depend on the row count.
+     * When fields are given, only those attributes are streamed.
+     */
+    private ResponseEntity<StreamingResponseBody> streamEntities(Class<? extends BaseEntity> entityClass,
+                                                                ListQuery listQuery, List<String> fields,
+                                                                boolean ndjson) {
+        StreamingResponseBody body = outputStream -> {
+            byte[] separator = ndjson ? new byte[] {'\n'} : new byte[] {','};
+            if (!ndjson) {
+                outputStream.write('[');
+            }
+            boolean[] first = {true};
+            Consumer<Object> writer = item -> {
+                try {
+                    if (!ndjson && !first[0]) {
+                        outputStream.write(separator);
+                    }
+                    writeItem(outputStream, item);
+                    if (ndjson) {
+                        outputStream.write(separator);
+                    }
+                    first[0] = false;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+            // Entities are rendered while still managed, before the persistence context is cleared
+            long count = fields != null
+                    ? genericRepository.streamProjection(entityClass, fields, listQuery, streamFetchSize, writer)
+                    : genericRepository.streamAll(entityClass, listQuery, streamFetchSize, streamClearInterval,
+                            entity -> writer.accept(entityRenderer.render(entity, FetchPlan.none())));
+            if (!ndjson) {
+                outputStream.write(']');
+            }
+            log.debug("Streamed {} {} entities", count, entityClass.getSimpleName());
+        };
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private void writeItem(OutputStream outputStream, Object item) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(item));
+    }
+
+    /**
+     * GET /rest/{entityName}/_aggregate?groupBy=...&metrics=...&{attribute}[{op}]=...
+     * Aggregates the entities matching the filters in the database with a single GROUP BY
+     * query and returns one row per group, e.g. groupBy=status,createdAt:month and
+     * metrics=count,sum:totalPrice. See ListQueryParser for the syntax.
+     */
+    @GetMapping("/{entityName}/_aggregate")
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> aggregateEntities(
+            @PathVariable String entityName,
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String metrics,
+            @RequestParam MultiValueMap<String, String> parameters) {
+        log.debug("GET /rest/{}/_aggregate - Aggregating entities", entityName);
+
+        Optional<Class<?>> entityClassOpt = entityDiscovery.getEntityClass(entityName);
+        if (entityClassOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Entity not found: " + entityName));
+        }
+
+        ListQuery listQuery;
+        AggregateQuery aggregateQuery;
+        try {
+            listQuery = listQueryParser.parse(entityClassOpt.get(), parameters);
+            aggregateQuery = listQueryParser.parseAggregate(entityClassOpt.get(), groupBy, metrics);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+        if (!listQuery.sorts().isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "sort is not supported for aggregates, groups are ordered by their keys"));
+        }
+
+        try {
+            // One group more than the maximum tells whether the result was truncated
+            List<Map<String, Object>> groups = genericRepository.aggregate(
+                    asBaseEntityClass(entityClassOpt.get()), aggregateQuery, listQuery, maxAggregateGroups + 1);
+            boolean truncated = groups.size() > maxAggregateGroups;
+            return ResponseEntity.ok(Map.of(
+                    "groups", truncated ? groups.subList(0, maxAggregateGroups) : groups,
+                    "truncated", truncated));
+        } catch (Exception e) {
+            log.error("Error aggregating entities for {}", entityName, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to aggregate entities: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /rest/{entityName}/{uuid}?fields=...&expand=...
+     * Returns a specific entity by UUID, or only the selected attributes of it,
+     * optionally with the given relationship paths expanded.
      */
     @GetMapping("/{entityName}/{uuid}")
-    public ResponseEntity<?> getEntityByUuid(@PathVariable String entityName, @PathVariable String uuid) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<?> getEntityByUuid(
+            @PathVariable String entityName,
+            @PathVariable String uuid,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand,
+            WebRequest webRequest) {
         log.debug("GET /rest/{}/{} - Getting entity by UUID", entityName, uuid);
 
         Optional<Class<?>> entityClassOpt = entityDiscovery.getEntityClass(entityName);
@@ -82,16 +321,59 @@ public class GenericRestController {
                     .body(Map.of("error", "Entity not found: " + entityName));
         }
 
+        List<String> selectedFields;
+        FetchPlan fetchPlan;
+        try {
+            selectedFields = listQueryParser.parseFields(entityClassOpt.get(), fields);
+            fetchPlan = listQueryParser.parseExpand(entityClassOpt.get(), expand);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+        if (selectedFields != null && !fetchPlan.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "fields and expand cannot be combined"));
+        }
+
         try {
             Class<? extends BaseEntity> entityClass = asBaseEntityClass(entityClassOpt.get());
-            Optional<? extends BaseEntity> entityOpt = genericRepository.findByUuid(entityClass, uuid);
 
-            if (entityOpt.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                        .body(Map.of("error", "Entity with UUID " + uuid + " not found"));
+            if (!fetchPlan.isEmpty()) {
+                // updatedAt does not cover related entities, so expanded responses are not validated
+                return genericRepository.findByUuid(entityClass, uuid, fetchPlan)
+                        .<ResponseEntity<?>>map(entity -> ResponseEntity.ok(entityRenderer.render(entity, fetchPlan)))
+                        .orElseGet(() -> entityNotFound(uuid));
+            }
+
+            // Conditional requests are validated against updatedAt before loading the entity, and
+            // projections, which do not carry updatedAt, read it up front for their ETag. Other
+            // reads load the entity through the uuid and second-level caches and take it from there.
+            if (selectedFields != null || webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                    || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null) {
+                Optional<Instant> updatedAt = genericRepository.findUpdatedAtByUuid(entityClass, uuid);
+                if (updatedAt.isEmpty()) {
+                    return entityNotFound(uuid);
+                }
+                if (webRequest.checkNotModified(etag(uuid, updatedAt.get(), selectedFields),
+                        updatedAt.get().toEpochMilli())) {
+                    return null;
+                }
+                Optional<?> entityOpt = selectedFields != null
+                        ? genericRepository.findProjectionByUuid(entityClass, uuid, selectedFields)
+                        : genericRepository.findByUuid(entityClass, uuid)
+                                .map(entity -> entityRenderer.render(entity, FetchPlan.none()));
+                return entityOpt.<ResponseEntity<?>>map(ResponseEntity::ok).orElseGet(() -> entityNotFound(uuid));
             }
 
-            return ResponseEntity.ok(entityOpt.get());
+            Optional<? extends BaseEntity> entityOpt = genericRepository.findByUuid(entityClass, uuid);
+            if (entityOpt.isEmpty()) {
+                return entityNotFound(uuid);
+            }
+            BaseEntity entity = entityOpt.get();
+            return ResponseEntity.ok()
+                    .eTag(etag(uuid, entity.getUpdatedAt(), null))
+                    .lastModified(entity.getUpdatedAt())
+                    .body(entityRenderer.render(entity, FetchPlan.none()));
         } catch (Exception e) {
             log.error("Error fetching entity {} with UUID {}", entityName, uuid, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -119,17 +401,15 @@ public class GenericRestController {
         try {
             Class<? extends BaseEntity> entityClass = asBaseEntityClass(entityClassOpt.get());
 
-            // Create new instance of the entity
-            BaseEntity entity = entityClass.getDeclaredConstructor().newInstance();
-
-            // Set fields from request body using reflection
-            setEntityFields(entity, requestBody, entityClass);
+            // Create new instance of the entity and bind the request body onto it
+            BaseEntity entity = entityBinder.create(entityClass, requestBody);
 
-            // Persist the entity
+            // Persist the entity, flushing so that constraint violations are reported here
             genericRepository.save(entity);
+            genericRepository.flush();
 
             log.info("Successfully created entity {}: {}", entityName, entity);
-            return ResponseEntity.status(HttpStatus.CREATED).body(entity);
+            return ResponseEntity.status(HttpStatus.CREATED).body(entityRenderer.render(entity, FetchPlan.none()));
         } catch (PersistenceException e) {
             // Database constraint violations - mark transaction for rollback
             TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
@@ -178,13 +458,14 @@ public class GenericRestController {
             BaseEntity entity = entityOpt.get();
 
             // Update fields from request body
-            setEntityFields(entity, requestBody, entityClass);
+            entityBinder.bind(entity, requestBody, entityClass);
 
-            // Merge the entity
+            // Merge the entity, flushing so that constraint violations are reported here
             genericRepository.update(entity);
+            genericRepository.flush();
 
             log.info("Successfully updated entity {}: {}", entityName, entity);
-            return ResponseEntity.ok(entity);
+            return ResponseEntity.ok(entityRenderer.render(entity, FetchPlan.none()));
         } catch (PersistenceException e) {
             TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             log.error("Database constraint violation updating entity {}", entityName, e);
@@ -226,6 +507,7 @@ public class GenericRestController {
 
             BaseEntity entity = entityOpt.get();
             genericRepository.delete(entity);
+            genericRepository.flush();
 
             log.info("Successfully deleted entity {}: {}", entityName, uuid);
             return ResponseEntity.noContent().build();
@@ -237,222 +519,245 @@ public class GenericRestController {
         }
     }
 
-
     /**
-     * Sets entity fields from a Map using reflection.
-     * Handles common types like String, Integer, Long, BigDecimal, Boolean, etc.
-     * Also handles JPA relationships (@ManyToOne, @OneToOne) by loading related
-     * entities.
+     * POST /rest/{entityName}/_bulk
+     * Creates all entities in the request array in a single transaction.
+     * References of all items are resolved together and inserts are sent as JDBC batches.
+     * The request is all-or-nothing: if any item fails, nothing is persisted and the
+     * failed items are reported.
      */
-    private void setEntityFields(Object entity, Map<String, Object> data, Class<?> entityClass) throws Exception {
-        // Get all fields including inherited ones
-        Class<?> currentClass = entityClass;
-        while (currentClass != null && currentClass != Object.class) {
-            Field[] fields = currentClass.getDeclaredFields();
-
-            for (Field field : fields) {
-                String fieldName = field.getName();
-
-                // Skip JPA-managed fields (id, uuid, createdAt, updatedAt)
-                if (fieldName.equals("id") || fieldName.equals("uuid") ||
-                        fieldName.equals("createdAt") || fieldName.equals("updatedAt")) {
-                    continue;
-                }
-
-                field.setAccessible(true);
-                Class<?> fieldType = field.getType();
-
-                // Check if this is a JPA relationship field
-                boolean isManyToOne = field.isAnnotationPresent(ManyToOne.class);
-                boolean isOneToOne = field.isAnnotationPresent(OneToOne.class);
-                boolean isOneToMany = field.isAnnotationPresent(OneToMany.class);
-                boolean isManyToMany = field.isAnnotationPresent(ManyToMany.class);
-                boolean isRelationship = isManyToOne || isOneToOne || isOneToMany || isManyToMany;
-
-                Object value = null;
-
-                // For relationships, check for fieldName or fieldNameId
-                if (isRelationship) {
-                    if (data.containsKey(fieldName)) {
-                        value = data.get(fieldName);
-                    } else if ((isManyToOne || isOneToOne) && data.containsKey(fieldName + "Id")) {
-                        // Try to load entity by UUID or ID
-                        Object idValue = data.get(fieldName + "Id");
-                        if (idValue != null) {
-                            if (idValue instanceof String) {
-                                // Assume UUID
-                                @SuppressWarnings("unchecked")
-                                Class<? extends BaseEntity> relatedEntityClass = (Class<? extends BaseEntity>) fieldType;
-                                Optional<? extends BaseEntity> relatedEntity = genericRepository.findByUuid(relatedEntityClass, (String) idValue);
-                                if (relatedEntity.isPresent()) {
-                                    value = relatedEntity.get();
-                                } else {
-                                    throw new IllegalArgumentException("Related entity " + fieldType.getSimpleName()
-                                            + " with UUID " + idValue + " not found");
-                                }
-                            } else {
-                                // Fallback to ID (Long) if passed as number
-                                @SuppressWarnings("unchecked")
-                                Class<? extends BaseEntity> relatedEntityClass = (Class<? extends BaseEntity>) fieldType;
-                                value = genericRepository.findById(relatedEntityClass, convertToLong(idValue));
-                            }
-                        }
-                    }
-                } else {
-                    // For regular fields, only use the exact field name
-                    if (data.containsKey(fieldName)) {
-                        value = data.get(fieldName);
-                    }
-                }
-
-                if (value == null) {
-                    continue;
-                }
+    @PostMapping("/{entityName}/_bulk")
+    @Transactional
+    public ResponseEntity<?> bulkCreateEntities(
+            @PathVariable String entityName,
+            @RequestBody List<Map<String, Object>> requestBody) {
+        log.debug("POST /rest/{}/_bulk - Creating {} entities", entityName, requestBody.size());
 
-                // Handle OneToMany/ManyToMany (List of entities)
-                if ((isOneToMany || isManyToMany) && value instanceof List) {
-                    java.lang.reflect.ParameterizedType stringListType = (java.lang.reflect.ParameterizedType) field
-                            .getGenericType();
-                    Class<?> relatedClass = (Class<?>) stringListType.getActualTypeArguments()[0];
-
-                    List<Object> relatedEntities = new java.util.ArrayList<>();
-                    List<?> listValue = (List<?>) value;
-
-                    for (Object item : listValue) {
-                        if (item instanceof Map) {
-                            // Create new instance or find existing
-                            @SuppressWarnings("unchecked")
-                            Map<String, Object> itemMap = (Map<String, Object>) item;
-
-                            Object relatedEntity;
-                            if (itemMap.containsKey("uuid")) {
-                                String uuid = (String) itemMap.get("uuid");
-                                @SuppressWarnings("unchecked")
-                                Class<? extends BaseEntity> relatedEntityClass = (Class<? extends BaseEntity>) relatedClass;
-                                Optional<? extends BaseEntity> existing = genericRepository.findByUuid(relatedEntityClass, uuid);
-                                if (existing.isPresent()) {
-                                    relatedEntity = existing.get();
-                                    // Update existing entity fields if needed?
-                                    // For now, let's assume we just link it, or update it if it's owned.
-                                    // If it's OneToMany with Cascade.ALL, we might want to update it.
-                                    setEntityFields(relatedEntity, itemMap, relatedClass);
-                                } else {
-                                    throw new IllegalArgumentException("Related entity " + relatedClass.getSimpleName()
-                                            + " with UUID " + uuid + " not found");
-                                }
-                            } else {
-                                // Create new
-                                relatedEntity = relatedClass.getDeclaredConstructor().newInstance();
-                                setEntityFields(relatedEntity, itemMap, relatedClass);
-                            }
-                            relatedEntities.add(relatedEntity);
-                        } else if (item instanceof String) {
-                            // Assume UUID
-                            @SuppressWarnings("unchecked")
-                            Class<? extends BaseEntity> relatedEntityClass = (Class<? extends BaseEntity>) relatedClass;
-                            Optional<? extends BaseEntity> existing = genericRepository.findByUuid(relatedEntityClass, (String) item);
-                            if (existing.isPresent()) {
-                                relatedEntities.add(existing.get());
-                            } else {
-                                throw new IllegalArgumentException("Related entity " + relatedClass.getSimpleName()
-                                        + " with UUID " + item + " not found");
-                            }
-                        }
-                    }
+        Optional<Class<?>> entityClassOpt = entityDiscovery.getEntityClass(entityName);
+        if (entityClassOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Entity not found: " + entityName));
+        }
+        if (requestBody.size() > maxBulkSize) {
+            return bulkTooLarge(requestBody.size());
+        }
 
-                    field.set(entity, relatedEntities);
-                    continue;
+        try {
+            Class<? extends BaseEntity> entityClass = asBaseEntityClass(entityClassOpt.get());
+            EntityBinder.Batch batch = entityBinder.batch(entityClass, requestBody);
+
+            List<BaseEntity> entities = new ArrayList<>();
+            List<BulkItemResult> failures = new ArrayList<>();
+            for (int i = 0; i < requestBody.size(); i++) {
+                try {
+                    entities.add(batch.create(entityClass, requestBody.get(i)));
+                } catch (RuntimeException e) {
+                    failures.add(BulkItemResult.failure(i, HttpStatus.BAD_REQUEST.value(), null,
+                            "Failed to create entity: " + e.getMessage()));
                 }
+            }
+            if (!failures.isEmpty()) {
+                return bulkRejected(failures);
+            }
 
-                // Handle relationship fields that might be passed as Map with "uuid" or "id"
-                if ((isManyToOne || isOneToOne) && value instanceof Map) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> relationMap = (Map<String, Object>) value;
-                    if (relationMap.containsKey("uuid")) {
-                        String relatedUuid = (String) relationMap.get("uuid");
-                        @SuppressWarnings("unchecked")
-                        Class<? extends BaseEntity> relatedEntityClass = (Class<? extends BaseEntity>) fieldType;
-                        Optional<? extends BaseEntity> relatedEntity = genericRepository.findByUuid(relatedEntityClass, relatedUuid);
-                        if (relatedEntity.isPresent()) {
-                            value = relatedEntity.get();
-                        } else {
-                            throw new IllegalArgumentException("Related entity " + fieldType.getSimpleName()
-                                    + " with UUID " + relatedUuid + " not found");
-                        }
-                    } else if (relationMap.containsKey("id")) {
-                        Object idValue = relationMap.get("id");
-                        @SuppressWarnings("unchecked")
-                        Class<? extends BaseEntity> relatedEntityClass = (Class<? extends BaseEntity>) fieldType;
-                        value = genericRepository.findById(relatedEntityClass, convertToLong(idValue));
-                    }
-                }
+            genericRepository.saveAll(entities);
 
-                // Convert value to appropriate type
-                Object convertedValue = convertValue(value, fieldType);
-                field.set(entity, convertedValue);
+            List<BulkItemResult> results = new ArrayList<>();
+            for (int i = 0; i < entities.size(); i++) {
+                results.add(BulkItemResult.success(i, HttpStatus.CREATED.value(), entities.get(i).getUuid()));
             }
-
-            currentClass = currentClass.getSuperclass();
+            log.info("Successfully created {} entities {}", entities.size(), entityName);
+            return ResponseEntity.status(HttpStatus.CREATED).body(results);
+        } catch (PersistenceException e) {
+            return bulkConstraintViolation(entityName, e);
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.error("Error bulk creating entities {}", entityName, e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Failed to create entities: " + e.getMessage()));
         }
     }
 
     /**
-     * Converts a value to Long for entity ID lookups.
+     * PUT /rest/{entityName}/_bulk
+     * Updates all entities in the request array, each identified by its "uuid" field,
+     * in a single all-or-nothing transaction.
      */
-    private Long convertToLong(Object value) {
-        if (value instanceof Long) {
-            return (Long) value;
-        } else if (value instanceof Number) {
-            return ((Number) value).longValue();
-        } else {
-            return Long.parseLong(value.toString());
+    @PutMapping("/{entityName}/_bulk")
+    @Transactional
+    public ResponseEntity<?> bulkUpdateEntities(
+            @PathVariable String entityName,
+            @RequestBody List<Map<String, Object>> requestBody) {
+        log.debug("PUT /rest/{}/_bulk - Updating {} entities", entityName, requestBody.size());
+
+        Optional<Class<?>> entityClassOpt = entityDiscovery.getEntityClass(entityName);
+        if (entityClassOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Entity not found: " + entityName));
+        }
+        if (requestBody.size() > maxBulkSize) {
+            return bulkTooLarge(requestBody.size());
+        }
+
+        try {
+            Class<? extends BaseEntity> entityClass = asBaseEntityClass(entityClassOpt.get());
+            Map<String, BaseEntity> existing = findAllByUuids(entityClass,
+                    requestBody.stream().map(item -> item.get("uuid")).toList());
+            EntityBinder.Batch batch = entityBinder.batch(entityClass, requestBody);
+
+            List<BulkItemResult> results = new ArrayList<>();
+            List<BulkItemResult> failures = new ArrayList<>();
+            for (int i = 0; i < requestBody.size(); i++) {
+                Object uuid = requestBody.get(i).get("uuid");
+                BaseEntity entity = existing.get(uuid);
+                if (entity == null) {
+                    failures.add(BulkItemResult.failure(i, HttpStatus.NOT_FOUND.value(), Objects.toString(uuid, null),
+                            uuid == null ? "Missing uuid" : "Entity with UUID " + uuid + " not found"));
+                    continue;
+                }
+                try {
+                    batch.bind(entity, requestBody.get(i));
+                    results.add(BulkItemResult.success(i, HttpStatus.OK.value(), entity.getUuid()));
+                } catch (RuntimeException e) {
+                    failures.add(BulkItemResult.failure(i, HttpStatus.BAD_REQUEST.value(), entity.getUuid(),
+                            "Failed to update entity: " + e.getMessage()));
+                }
+            }
+            if (!failures.isEmpty()) {
+                return bulkRejected(failures);
+            }
+
+            // Entities are managed: a single flush sends all updates as JDBC batches
+            genericRepository.updateAll(existing.values());
+
+            log.info("Successfully updated {} entities {}", results.size(), entityName);
+            return ResponseEntity.ok(results);
+        } catch (PersistenceException e) {
+            return bulkConstraintViolation(entityName, e);
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.error("Error bulk updating entities {}", entityName, e);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Failed to update entities: " + e.getMessage()));
         }
     }
 
     /**
-     * Converts a value to the target type.
+     * DELETE /rest/{entityName}/_bulk
+     * Deletes all entities whose UUIDs are given in the request array,
+     * in a single all-or-nothing transaction.
      */
-    private Object convertValue(Object value, Class<?> targetType) {
-        if (value == null) {
-            return null;
-        }
+    @DeleteMapping("/{entityName}/_bulk")
+    @Transactional
+    public ResponseEntity<?> bulkDeleteEntities(
+            @PathVariable String entityName,
+            @RequestBody List<String> requestBody) {
+        log.debug("DELETE /rest/{}/_bulk - Deleting {} entities", entityName, requestBody.size());
 
-        // If already the correct type, return as is
-        if (targetType.isInstance(value)) {
-            return value;
+        Optional<Class<?>> entityClassOpt = entityDiscovery.getEntityClass(entityName);
+        if (entityClassOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Entity not found: " + entityName));
+        }
+        if (requestBody.size() > maxBulkSize) {
+            return bulkTooLarge(requestBody.size());
         }
 
-        // Handle common type conversions
-        if (targetType == String.class) {
-            return value.toString();
-        } else if (targetType == Integer.class || targetType == int.class) {
-            if (value instanceof Number) {
-                return ((Number) value).intValue();
-            }
-            return Integer.parseInt(value.toString());
-        } else if (targetType == Long.class || targetType == long.class) {
-            if (value instanceof Number) {
-                return ((Number) value).longValue();
-            }
-            return Long.parseLong(value.toString());
-        } else if (targetType == Boolean.class || targetType == boolean.class) {
-            if (value instanceof Boolean) {
-                return value;
-            }
-            return Boolean.parseBoolean(value.toString());
-        } else if (targetType == BigDecimal.class) {
-            if (value instanceof Number) {
-                return BigDecimal.valueOf(((Number) value).doubleValue());
+        try {
+            Class<? extends BaseEntity> entityClass = asBaseEntityClass(entityClassOpt.get());
+            Map<String, BaseEntity> existing = findAllByUuids(entityClass, requestBody);
+
+            List<BulkItemResult> results = new ArrayList<>();
+            List<BulkItemResult> failures = new ArrayList<>();
+            for (int i = 0; i < requestBody.size(); i++) {
+                String uuid = requestBody.get(i);
+                if (existing.containsKey(uuid)) {
+                    results.add(BulkItemResult.success(i, HttpStatus.NO_CONTENT.value(), uuid));
+                } else {
+                    failures.add(BulkItemResult.failure(i, HttpStatus.NOT_FOUND.value(), uuid,
+                            "Entity with UUID " + uuid + " not found"));
+                }
             }
-            return new BigDecimal(value.toString());
-        } else if (targetType == Instant.class) {
-            if (value instanceof String) {
-                return Instant.parse((String) value);
+            if (!failures.isEmpty()) {
+                return bulkRejected(failures);
             }
+
+            genericRepository.deleteAll(existing.values());
+
+            log.info("Successfully deleted {} entities {}", results.size(), entityName);
+            return ResponseEntity.ok(results);
+        } catch (Exception e) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.error("Error bulk deleting entities {}", entityName, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to delete entities: " + e.getMessage()));
+        }
+    }
+
+    private Map<String, BaseEntity> findAllByUuids(Class<? extends BaseEntity> entityClass, List<?> uuids) {
+        List<String> validUuids = uuids.stream()
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .distinct()
+                .toList();
+        Map<String, BaseEntity> byUuid = new HashMap<>();
+        for (BaseEntity entity : genericRepository.findAllByUuids(entityClass, validUuids)) {
+            byUuid.put(entity.getUuid(), entity);
         }
+        return byUuid;
+    }
+
+    private ResponseEntity<?> bulkTooLarge(int size) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Bulk request has " + size + " items, the maximum is " + maxBulkSize));
+    }
+
+    private ResponseEntity<?> entityNotFound(String uuid) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(Map.of("error", "Entity with UUID " + uuid + " not found"));
+    }
 
-        // For other types, try to return as is (might work for nested objects)
-        return value;
+    private ResponseEntity<?> bulkRejected(List<BulkItemResult> failures) {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", failures.size() + " item(s) failed, nothing was persisted",
+                        "results", failures));
+    }
+
+    private ResponseEntity<?> bulkConstraintViolation(String entityName, PersistenceException e) {
+        TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        log.error("Database constraint violation in bulk request for {}", entityName, e);
+        Throwable rootCause = e.getCause();
+        String errorMessage = rootCause != null ? rootCause.getMessage() : e.getMessage();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "Database constraint violation: " + errorMessage));
+    }
+
+
+    /**
+     * Builds the ETag of a list page from the page version and the request parameters that
+     * select the page, so every page and every query validates separately.
+     */
+    private String listEtag(Class<?> entityClass, ListVersion version, ListQuery listQuery,
+                            List<String> selectedFields, String cursor, int pageSize) {
+        return etag(entityClass.getSimpleName(), version.ids(), version.updatedAts(), version.hasNext(),
+                listQuery, selectedFields, cursor, pageSize);
+    }
+
+    /**
+     * Builds a strong ETag from the parts that identify a representation.
+     */
+    private String etag(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
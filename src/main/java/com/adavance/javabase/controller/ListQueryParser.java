@@ -0,0 +1,376 @@
+package com.adavance.javabase.controller;
+
+import com.adavance.javabase.binding.EntityBindingRegistry;
+import com.adavance.javabase.binding.FieldBinding;
+import com.adavance.javabase.binding.TypeConverters;
+import com.adavance.javabase.repository.AggregateQuery;
+import com.adavance.javabase.repository.FetchPlan;
+import com.adavance.javabase.repository.Filter;
+import com.adavance.javabase.repository.FilterOperator;
+import com.adavance.javabase.repository.ListQuery;
+import com.adavance.javabase.repository.PageCursor;
+import com.adavance.javabase.repository.Sort;
+import com.adavance.javabase.util.EntityDiscovery;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Column;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses list query parameters into a validated ListQuery.
+ * 
+ * Filters: {@code attribute=value} (equality) or {@code attribute[op]=value} with op one of
+ * eq, ne, lt, gt, in (comma-separated values) and like (SQL pattern, strings only).
+ * Sort: {@code sort=attribute,-attribute} (a leading minus sorts descending).
+ * Fields: {@code fields=uuid,name} selects the scalar attributes returned instead of whole entities.
+ * Expand: {@code expand=product,selectedAddOns.addOn} loads and returns the given relationship paths.
+ * Aggregates: {@code groupBy=status,product,createdAt:month} groups by scalar attributes, to-one
+ * relationships or time buckets (year, month, day) of temporal attributes, and
+ * {@code metrics=count,sum:totalPrice} computes count, sum, avg, min or max of numeric attributes.
+ * 
+ * Attributes are validated against the JPA metamodel from EntityDiscovery: only scalar
+ * attributes of supported types that are not @JsonIgnore can be used, and only non-null comparable
+ * ones can be sorted on. Invalid input is reported with an IllegalArgumentException.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListQueryParser {
+
+    /**
+     * Query parameters with a meaning of their own, never treated as filters.
+     */
+    private static final Set<String> RESERVED_PARAMETERS =
+            Set.of("cursor", "limit", "stream", "sort", "fields", "expand", "groupBy", "metrics");
+
+    /**
+     * Attribute types that can be grouped by time bucket.
+     */
+    private static final Set<Class<?>> TEMPORAL_TYPES =
+            Set.of(Instant.class, LocalDate.class, LocalDateTime.class, OffsetDateTime.class, ZonedDateTime.class);
+
+    private static final Pattern FILTER_PARAMETER = Pattern.compile("^([A-Za-z_][A-Za-z0-9_]*)(?:\\[([A-Za-z]+)\\])?$");
+
+    private final EntityDiscovery entityDiscovery;
+    private final EntityBindingRegistry entityBindingRegistry;
+
+    /**
+     * Maximum number of relationships in a single expand path.
+     */
+    @Value("${javabase.rest.expand.max-depth:3}")
+    private int maxExpandDepth;
+
+    /**
+     * Parses the filters and sort of a list request.
+     */
+    public ListQuery parse(Class<?> entityClass, MultiValueMap<String, String> parameters) {
+        EntityType<?> entityType = getEntityType(entityClass);
+
+        List<Filter> filters = new ArrayList<>();
+        for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            String name = parameter.getKey();
+            if (RESERVED_PARAMETERS.contains(name)) {
+                continue;
+            }
+            Matcher matcher = FILTER_PARAMETER.matcher(name);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid filter parameter: " + name);
+            }
+            FilterOperator operator = matcher.group(2) == null
+                    ? FilterOperator.EQ
+                    : FilterOperator.fromToken(matcher.group(2))
+                            .orElseThrow(() -> new IllegalArgumentException("Unknown filter operator: " + matcher.group(2)));
+            SingularAttribute<?, ?> attribute = getScalarAttribute(entityType, matcher.group(1));
+
+            for (String rawValue : parameter.getValue()) {
+                filters.add(toFilter(attribute, operator, rawValue));
+            }
+        }
+
+        return new ListQuery(filters, parseSort(entityType, parameters.getFirst("sort")));
+    }
+
+    /**
+     * Decodes a page cursor and converts its sort values to the attribute types of the query's sort.
+     */
+    public PageCursor parseCursor(Class<?> entityClass, ListQuery query, String cursor) {
+        PageCursor pageCursor = PageCursor.decode(cursor);
+        if (!pageCursor.sortKey().equals(query.sortKey())
+                || pageCursor.sortValues().size() != query.sorts().size()) {
+            throw new IllegalArgumentException("Cursor was created for a different sort");
+        }
+
+        EntityType<?> entityType = getEntityType(entityClass);
+        List<Object> sortValues = new ArrayList<>();
+        for (int i = 0; i < query.sorts().size(); i++) {
+            SingularAttribute<?, ?> attribute = getScalarAttribute(entityType, query.sorts().get(i).attribute());
+            sortValues.add(convert(attribute, pageCursor.sortValues().get(i).toString()));
+        }
+        return new PageCursor(pageCursor.lastId(), pageCursor.sortKey(), sortValues);
+    }
+
+    /**
+     * Parses a sparse fieldset, returning null when all fields are requested.
+     * Only scalar attributes that the entity would serialize can be selected.
+     */
+    public List<String> parseFields(Class<?> entityClass, String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        EntityType<?> entityType = getEntityType(entityClass);
+        Set<String> selected = new LinkedHashSet<>();
+        for (String item : fields.split(",")) {
+            String name = item.trim();
+            Attribute<?, ?> attribute = getAttribute(entityType, name);
+            if ("id".equals(name)
+                    || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                    || attribute.isCollection()
+                    || (attribute.getJavaMember() instanceof Field field && field.isAnnotationPresent(JsonIgnore.class))) {
+                throw new IllegalArgumentException("Attribute cannot be selected: " + name);
+            }
+            selected.add(name);
+        }
+        return new ArrayList<>(selected);
+    }
+
+    /**
+     * Parses the relationship paths to expand, returning an empty plan when none are requested.
+     */
+    public FetchPlan parseExpand(Class<?> entityClass, String expand) {
+        if (expand == null || expand.isBlank()) {
+            return FetchPlan.none();
+        }
+
+        FetchPlan plan = FetchPlan.root();
+        for (String item : expand.split(",")) {
+            String path = item.trim();
+            String[] segments = path.split("\\.");
+            if (segments.length > maxExpandDepth) {
+                throw new IllegalArgumentException("Expand path is deeper than " + maxExpandDepth + ": " + path);
+            }
+
+            FetchPlan node = plan;
+            Class<?> currentClass = entityClass;
+            for (String segment : segments) {
+                FieldBinding field = entityBindingRegistry.getBinding(currentClass).getField(segment)
+                        .filter(binding -> binding.getTargetClass() != null && !binding.isHidden())
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Cannot expand " + path + ": " + segment + " is not a relationship"));
+                node = node.add(segment, field.getRelationshipKind().isToMany());
+                currentClass = field.getTargetClass();
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Parses the grouping keys and metrics of an aggregate request; metrics default to count.
+     * Hidden attributes are rejected like in filters, so min and max never reveal their values.
+     */
+    public AggregateQuery parseAggregate(Class<?> entityClass, String groupBy, String metrics) {
+        EntityType<?> entityType = getEntityType(entityClass);
+
+        List<AggregateQuery.GroupBy> groups = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String item : split(groupBy)) {
+            String[] parts = item.split(":", 2);
+            String name = parts[0];
+            if (!seen.add(name)) {
+                throw new IllegalArgumentException("Duplicate groupBy attribute: " + name);
+            }
+            Attribute<?, ?> attribute = getAttribute(entityType, name);
+            boolean relation = attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.MANY_TO_ONE
+                    || attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.ONE_TO_ONE;
+            if (relation) {
+                if (parts.length > 1 || isHidden(attribute)) {
+                    throw new IllegalArgumentException("Cannot group by " + item);
+                }
+                groups.add(new AggregateQuery.GroupBy(name, true, null));
+                continue;
+            }
+
+            SingularAttribute<?, ?> scalar = getScalarAttribute(entityType, name, "group by");
+            AggregateQuery.TimeBucket bucket = null;
+            if (parts.length > 1) {
+                bucket = parseEnum(AggregateQuery.TimeBucket.class, parts[1], "time bucket");
+                if (!TEMPORAL_TYPES.contains(scalar.getJavaType())) {
+                    throw new IllegalArgumentException("Time buckets require a date or time attribute: " + name);
+                }
+            }
+            groups.add(new AggregateQuery.GroupBy(name, false, bucket));
+        }
+
+        List<AggregateQuery.Metric> selected = new ArrayList<>();
+        Set<String> seenMetrics = new HashSet<>();
+        for (String item : split(metrics)) {
+            String[] parts = item.split(":", 2);
+            AggregateQuery.AggregateFunction function =
+                    parseEnum(AggregateQuery.AggregateFunction.class, parts[0], "aggregate function");
+            AggregateQuery.Metric metric;
+            if (parts.length == 1) {
+                if (function != AggregateQuery.AggregateFunction.COUNT) {
+                    throw new IllegalArgumentException("Aggregate function " + parts[0] + " requires an attribute");
+                }
+                metric = new AggregateQuery.Metric(function, null);
+            } else {
+                SingularAttribute<?, ?> attribute = getScalarAttribute(entityType, parts[1], "aggregate");
+                if (!isNumeric(attribute.getJavaType())) {
+                    throw new IllegalArgumentException("Aggregates require a numeric attribute: " + parts[1]);
+                }
+                metric = new AggregateQuery.Metric(function, parts[1]);
+            }
+            if (!seenMetrics.add(metric.key())) {
+                throw new IllegalArgumentException("Duplicate metric: " + item);
+            }
+            selected.add(metric);
+        }
+        if (selected.isEmpty()) {
+            selected.add(new AggregateQuery.Metric(AggregateQuery.AggregateFunction.COUNT, null));
+        }
+        return new AggregateQuery(groups, selected);
+    }
+
+    private Filter toFilter(SingularAttribute<?, ?> attribute, FilterOperator operator, String rawValue) {
+        Class<?> javaType = attribute.getJavaType();
+        if (operator == FilterOperator.LIKE && javaType != String.class) {
+            throw new IllegalArgumentException("Operator like requires a string attribute: " + attribute.getName());
+        }
+        if (operator.isOrdering() && !Comparable.class.isAssignableFrom(javaType)) {
+            throw new IllegalArgumentException("Operator " + operator.getToken()
+                    + " requires a comparable attribute: " + attribute.getName());
+        }
+
+        List<Object> values = new ArrayList<>();
+        if (operator == FilterOperator.IN) {
+            for (String item : rawValue.split(",")) {
+                values.add(convert(attribute, item.trim()));
+            }
+        } else {
+            values.add(convert(attribute, rawValue));
+        }
+        return new Filter(attribute.getName(), operator, values);
+    }
+
+    private List<Sort> parseSort(EntityType<?> entityType, String sortParameter) {
+        List<Sort> sorts = new ArrayList<>();
+        if (sortParameter == null || sortParameter.isBlank()) {
+            return sorts;
+        }
+
+        Set<String> seen = new HashSet<>();
+        for (String item : sortParameter.split(",")) {
+            String key = item.trim();
+            boolean ascending = !key.startsWith("-");
+            String name = key.startsWith("-") || key.startsWith("+") ? key.substring(1) : key;
+
+            SingularAttribute<?, ?> attribute = getScalarAttribute(entityType, name);
+            if (!Comparable.class.isAssignableFrom(attribute.getJavaType()) || !isNonNull(attribute)) {
+                throw new IllegalArgumentException("Cannot sort on nullable or non-comparable attribute: " + name);
+            }
+            if (!seen.add(name)) {
+                throw new IllegalArgumentException("Duplicate sort attribute: " + name);
+            }
+            sorts.add(new Sort(name, ascending));
+        }
+        return sorts;
+    }
+
+    private List<String> split(String parameter) {
+        List<String> items = new ArrayList<>();
+        if (parameter != null && !parameter.isBlank()) {
+            for (String item : parameter.split(",")) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> enumClass, String value, String description) {
+        try {
+            return Enum.valueOf(enumClass, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown " + description + ": " + value);
+        }
+    }
+
+    private boolean isNumeric(Class<?> type) {
+        return Number.class.isAssignableFrom(type)
+                || (type.isPrimitive() && type != boolean.class && type != char.class);
+    }
+
+    private boolean isHidden(Attribute<?, ?> attribute) {
+        return attribute.getJavaMember() instanceof Field field && field.isAnnotationPresent(JsonIgnore.class);
+    }
+
+    private SingularAttribute<?, ?> getScalarAttribute(EntityType<?> entityType, String name) {
+        return getScalarAttribute(entityType, name, "filter or sort");
+    }
+
+    private SingularAttribute<?, ?> getScalarAttribute(EntityType<?> entityType, String name, String usage) {
+        Attribute<?, ?> attribute = getAttribute(entityType, name);
+        // id is internal and hidden attributes are never exposed, not even through filters
+        if ("id".equals(name)
+                || isHidden(attribute)
+                || !(attribute instanceof SingularAttribute<?, ?> singularAttribute)
+                || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                || !TypeConverters.supports(attribute.getJavaType())) {
+            throw new IllegalArgumentException("Attribute cannot be used to " + usage + ": " + name);
+        }
+        return singularAttribute;
+    }
+
+    private Attribute<?, ?> getAttribute(EntityType<?> entityType, String name) {
+        try {
+            return entityType.getAttribute(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown attribute: " + name);
+        }
+    }
+
+    /**
+     * Keyset pagination needs sort values that are never null.
+     */
+    private boolean isNonNull(SingularAttribute<?, ?> attribute) {
+        if (!attribute.isOptional()) {
+            return true;
+        }
+        if (attribute.getJavaMember() instanceof Field field) {
+            Column column = field.getAnnotation(Column.class);
+            return column != null && !column.nullable();
+        }
+        return false;
+    }
+
+    private Object convert(SingularAttribute<?, ?> attribute, String rawValue) {
+        try {
+            return TypeConverters.forType(attribute.getJavaType()).apply(rawValue);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for " + attribute.getName() + ": " + rawValue);
+        }
+    }
+
+    private EntityType<?> getEntityType(Class<?> entityClass) {
+        return entityDiscovery.getEntityType(entityClass)
+                .orElseThrow(() -> new IllegalArgumentException("Entity not found: " + entityClass.getSimpleName()));
+    }
+}
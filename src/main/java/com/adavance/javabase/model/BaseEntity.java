@@ -1,5 +1,6 @@
 package com.adavance.javabase.model;
 
+import com.adavance.javabase.util.UuidV7;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -7,7 +8,6 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 
 import java.time.Instant;
-import java.util.UUID;
 
 @MappedSuperclass
 @Getter
@@ -15,11 +15,27 @@ import java.util.UUID;
 @Accessors(chain = true)
 public class BaseEntity {
 
+    /**
+     * Name of the database sequence shared by all entity ids.
+     */
+    public static final String ID_SEQUENCE = "javabase_id_seq";
+
+    /**
+     * Ids are drawn from a shared sequence through a pooled-lo optimizer, so Hibernate only
+     * calls the sequence once per allocation block and can batch inserts (IDENTITY forces an
+     * immediate INSERT per entity). The effective block size is the sequence's INCREMENT BY,
+     * see hibernate.id.sequence.increment_size_mismatch_strategy in application.yaml.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "javabase_id")
+    @SequenceGenerator(name = "javabase_id", sequenceName = ID_SEQUENCE, allocationSize = 50)
     @JsonIgnore
     private Long id;
 
+    /**
+     * Time-ordered (version 7) UUID, assigned on creation unless set explicitly.
+     * Stored as varchar by default; see UuidStringConverter to store it as a native uuid.
+     */
     @Column(unique = true, nullable = false, updatable = false)
     protected String uuid;
 
@@ -34,7 +50,7 @@ public class BaseEntity {
         beforeOnCreate();
 
         if (uuid == null) {
-            uuid = UUID.randomUUID().toString();
+            uuid = UuidV7.generateString();
         }
         if (createdAt == null) {
             createdAt = Instant.now();
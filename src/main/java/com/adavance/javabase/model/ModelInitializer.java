@@ -1,11 +1,14 @@
 package com.adavance.javabase.model;
 
 import com.adavance.javabase.repository.GenericRepository;
+import com.adavance.javabase.security.PasswordHashingService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import java.lang.reflect.Field;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -17,19 +20,35 @@ public abstract class ModelInitializer {
 
     protected final GenericRepository genericRepository;
     private final Set<Set<String>> processedFieldSets = Collections.synchronizedSet(new HashSet<>());
+    private PasswordHashingService passwordHashingService;
 
     public ModelInitializer(GenericRepository genericRepository) {
         this.genericRepository = genericRepository;
     }
 
+    @Autowired
+    public void setPasswordHashingService(PasswordHashingService passwordHashingService) {
+        this.passwordHashingService = passwordHashingService;
+    }
+
     /**
      * Ensures an entity exists by UUID. If an entity with the given UUID exists, returns it.
      * If it doesn't exist, creates it and returns it.
+     * Passwords are hashed before the persisting transaction starts, and only when the entity
+     * does not exist yet, so restarts do not rehash every seeded user.
      *
      * @param entity the entity to ensure exists
      * @return the existing entity if found by UUID, or the newly created entity
      */
+    @SuppressWarnings("unchecked")
     protected <T extends BaseEntity> T ensureByUuid(T entity) {
+        if (passwordHashingService.needsPreparation(entity) && entity.getUuid() != null) {
+            Optional<T> existing = genericRepository.findByUuid((Class<T>) entity.getClass(), entity.getUuid());
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+        passwordHashingService.prepare(entity);
         return genericRepository.ensureByUuid(entity);
     }
 
@@ -1,5 +1,6 @@
 package com.adavance.javabase.model;
 
+import com.adavance.javabase.annotations.CachedEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -13,6 +14,7 @@ import java.util.List;
 @Getter
 @Setter
 @Accessors(chain = true)
+@CachedEntity
 public class Role extends BaseEntity {
 
     protected Role() {
@@ -40,17 +40,26 @@ public class User extends BaseEntity {
     @JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles;
 
+    /**
+     * Fallback for users persisted without PasswordHashingService.prepare, which hashes the
+     * password before the transaction starts and leaves nothing to do here. Hashes with the
+     * configured BCrypt strength, which PasswordHashingService installs in EncryptionUtils.
+     */
     @Override
     protected void beforeOnCreate() {
-        if (rawPassword != null) {
-            this.encryptedPassword = EncryptionUtils.encrypt(rawPassword);
-        }
+        hashRawPassword();
     }
 
     @Override
     protected void beforeOnUpdate() {
+        hashRawPassword();
+    }
+
+    private void hashRawPassword() {
         if (rawPassword != null) {
             this.encryptedPassword = EncryptionUtils.encrypt(rawPassword);
+            // Hash once: later updates of this instance must not rehash
+            this.rawPassword = null;
         }
     }
 }
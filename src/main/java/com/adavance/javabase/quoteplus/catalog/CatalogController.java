@@ -0,0 +1,57 @@
+package com.adavance.javabase.quoteplus.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves the catalog snapshot used to build quotes, from memory:
+ * - GET /quoteplus/catalog - All active products with their add-ons and levels
+ * - GET /quoteplus/catalog/{productUuid} - One product with its add-ons and levels
+ * 
+ * Responses carry the snapshot version and build time as ETag, so unchanged catalogs are answered
+ * with 304 Not Modified.
+ */
+@RestController
+@RequestMapping("/quoteplus/catalog")
+@RequiredArgsConstructor
+public class CatalogController {
+
+    private final CatalogSnapshotService catalogSnapshotService;
+
+    @GetMapping
+    public ResponseEntity<?> getCatalog(WebRequest webRequest) {
+        CatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+        if (webRequest.checkNotModified(etag(snapshot))) {
+            return null;
+        }
+        return ResponseEntity.ok(snapshot);
+    }
+
+    @GetMapping("/{productUuid}")
+    public ResponseEntity<?> getProduct(@PathVariable String productUuid, WebRequest webRequest) {
+        CatalogSnapshot snapshot = catalogSnapshotService.getSnapshot();
+        Optional<CatalogSnapshot.ProductView> product = snapshot.product(productUuid);
+        if (product.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Product not found: " + productUuid));
+        }
+        if (webRequest.checkNotModified(etag(snapshot))) {
+            return null;
+        }
+        return ResponseEntity.ok(Map.of("version", snapshot.getVersion(), "product", product.get()));
+    }
+
+    private static String etag(CatalogSnapshot snapshot) {
+        // Versions restart with the application, the build time tells snapshots apart
+        return "\"catalog-" + snapshot.getVersion() + "-" + snapshot.getBuiltAt().toEpochMilli() + "\"";
+    }
+}
@@ -0,0 +1,68 @@
+package com.adavance.javabase.quoteplus.catalog;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable, denormalized view of the product catalog used to build quotes: every active
+ * product with its active add-ons in display order, each with its active levels in level order.
+ * Snapshots are numbered by version, which increases with every rebuild.
+ */
+@Getter
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final Instant builtAt;
+    private final List<ProductView> products;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ProductView> productsByUuid;
+
+    public record ProductView(String uuid, String name, String description, BigDecimal basePrice,
+                              List<AddOnView> addOns) {
+
+        public ProductView {
+            addOns = List.copyOf(addOns);
+        }
+    }
+
+    /**
+     * An add-on as offered for a product.
+     *
+     * @param price     the price for the product: ProductAddOn.customPrice, or AddOn.basePrice when not set
+     * @param basePrice AddOn.basePrice
+     */
+    public record AddOnView(String uuid, String name, String description, BigDecimal price, BigDecimal basePrice,
+                            boolean required, boolean includedByDefault, int displayOrder, boolean hasLevels,
+                            List<LevelView> levels) {
+
+        public AddOnView {
+            levels = List.copyOf(levels);
+        }
+    }
+
+    public record LevelView(String uuid, String name, String description, int levelOrder,
+                            BigDecimal priceModifier) {
+    }
+
+    public CatalogSnapshot(long version, Instant builtAt, List<ProductView> products) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.products = List.copyOf(products);
+        Map<String, ProductView> byUuid = new LinkedHashMap<>();
+        this.products.forEach(product -> byUuid.put(product.uuid(), product));
+        this.productsByUuid = Collections.unmodifiableMap(byUuid);
+    }
+
+    public Optional<ProductView> product(String uuid) {
+        return Optional.ofNullable(productsByUuid.get(uuid));
+    }
+}
@@ -0,0 +1,160 @@
+package com.adavance.javabase.quoteplus.catalog;
+
+import com.adavance.javabase.quoteplus.model.AddOn;
+import com.adavance.javabase.quoteplus.model.AddOnLevel;
+import com.adavance.javabase.quoteplus.model.Product;
+import com.adavance.javabase.quoteplus.model.ProductAddOn;
+import com.adavance.javabase.repository.EntityChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the {@link CatalogSnapshot} from memory.
+ * 
+ * The snapshot is built with three queries (products, product add-ons with their add-ons,
+ * levels) regardless of the catalog size, and replaced copy-on-write: after a Product,
+ * ProductAddOn, AddOn or AddOnLevel change is committed through GenericRepository, a new
+ * snapshot is built on a background thread and swapped in, while readers keep using the
+ * previous one. Changes committed while a rebuild is pending are covered by that rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogSnapshotService {
+
+    private static final Set<Class<?>> CATALOG_CLASSES =
+            Set.of(Product.class, ProductAddOn.class, AddOn.class, AddOnLevel.class);
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("javabase.catalog.snapshot.version", snapshot,
+                        current -> current.get() != null ? current.get().getVersion() : 0)
+                .description("Version of the catalog snapshot being served")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * The current snapshot, built on first use.
+     */
+    public CatalogSnapshot getSnapshot() {
+        CatalogSnapshot current = snapshot.get();
+        return current != null ? current : rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        if (CATALOG_CLASSES.contains(event.entityClass()) && rebuildPending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                // Cleared before building, so changes committed during the build trigger another one
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild the catalog snapshot, still serving version {}",
+                            snapshot.get() != null ? snapshot.get().getVersion() : 0, e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Builds a new snapshot and swaps it in.
+     */
+    synchronized CatalogSnapshot rebuild() {
+        long start = System.nanoTime();
+        CatalogSnapshot previous = snapshot.get();
+        long version = previous != null ? previous.getVersion() + 1 : 1;
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        CatalogSnapshot built = transactionTemplate.execute(status -> build(version));
+        snapshot.set(built);
+
+        log.info("Built catalog snapshot version {} ({} products) in {} ms", version,
+                built.getProducts().size(), (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    private CatalogSnapshot build(long version) {
+        Map<Long, List<CatalogSnapshot.LevelView>> levelsByAddOn = new HashMap<>();
+        for (AddOnLevel level : readOnly(entityManager.createQuery(
+                "select l from AddOnLevel l where l.active = true order by l.levelOrder, l.id", AddOnLevel.class))
+                .getResultList()) {
+            levelsByAddOn.computeIfAbsent(level.getAddOn().getId(), key -> new ArrayList<>())
+                    .add(new CatalogSnapshot.LevelView(level.getUuid(), level.getName(), level.getDescription(),
+                            level.getLevelOrder(), level.getPriceModifier()));
+        }
+
+        Map<Long, List<CatalogSnapshot.AddOnView>> addOnsByProduct = new HashMap<>();
+        for (ProductAddOn productAddOn : readOnly(entityManager.createQuery(
+                "select pa from ProductAddOn pa join fetch pa.addOn a where a.active = true"
+                        + " order by pa.displayOrder, pa.id", ProductAddOn.class))
+                .getResultList()) {
+            AddOn addOn = productAddOn.getAddOn();
+            addOnsByProduct.computeIfAbsent(productAddOn.getProduct().getId(), key -> new ArrayList<>())
+                    .add(new CatalogSnapshot.AddOnView(addOn.getUuid(), addOn.getName(), addOn.getDescription(),
+                            productAddOn.getCustomPrice() != null ? productAddOn.getCustomPrice() : addOn.getBasePrice(),
+                            addOn.getBasePrice(), productAddOn.getRequired(), productAddOn.getIncludedByDefault(),
+                            productAddOn.getDisplayOrder(), addOn.getHasLevels(),
+                            levelsByAddOn.getOrDefault(addOn.getId(), List.of())));
+        }
+
+        List<CatalogSnapshot.ProductView> products = new ArrayList<>();
+        for (Product product : readOnly(entityManager.createQuery(
+                "select p from Product p where p.active = true order by p.name, p.id", Product.class))
+                .getResultList()) {
+            products.add(new CatalogSnapshot.ProductView(product.getUuid(), product.getName(),
+                    product.getDescription(), product.getBasePrice(),
+                    addOnsByProduct.getOrDefault(product.getId(), List.of())));
+        }
+
+        return new CatalogSnapshot(version, Instant.now(), products);
+    }
+
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        return query.setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+}
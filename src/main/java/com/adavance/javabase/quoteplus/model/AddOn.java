@@ -1,5 +1,6 @@
 package com.adavance.javabase.quoteplus.model;
 
+import com.adavance.javabase.annotations.CachedEntity;
 import com.adavance.javabase.model.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -13,6 +14,7 @@ import java.util.List;
 @Table(name = "add_ons")
 @Getter
 @Setter
+@CachedEntity
 public class AddOn extends BaseEntity {
 
     @Column(nullable = false)
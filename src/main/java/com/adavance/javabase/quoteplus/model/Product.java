@@ -1,6 +1,7 @@
 package com.adavance.javabase.quoteplus.model;
 
 import com.adavance.javabase.annotations.AutoController;
+import com.adavance.javabase.annotations.CachedEntity;
 import com.adavance.javabase.model.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -14,6 +15,7 @@ import java.util.List;
 @Getter
 @Setter
 @AutoController
+@CachedEntity
 public class Product extends BaseEntity {
 
     @Column(nullable = false)
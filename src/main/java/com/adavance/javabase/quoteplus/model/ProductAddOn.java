@@ -1,5 +1,6 @@
 package com.adavance.javabase.quoteplus.model;
 
+import com.adavance.javabase.annotations.CachedEntity;
 import com.adavance.javabase.model.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -11,6 +12,7 @@ import java.math.BigDecimal;
 @Table(name = "product_add_ons")
 @Getter
 @Setter
+@CachedEntity
 public class ProductAddOn extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,8 @@
 package com.adavance.javabase.quoteplus.model;
 
+import com.adavance.javabase.annotations.AutoController;
 import com.adavance.javabase.model.BaseEntity;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -10,9 +12,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "quotes")
+@Table(name = "quotes", indexes = {
+        @Index(name = "idx_quotes_status", columnList = "status"),
+        @Index(name = "idx_quotes_product_id", columnList = "product_id")
+})
 @Getter
 @Setter
+@AutoController
 public class Quote extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -28,8 +34,12 @@ public class Quote extends BaseEntity {
     @Column(length = 2000)
     private String notes;
 
+    /**
+     * Product base price plus the price of every included add-on, maintained by QuotePricingListener.
+     */
     @Column(nullable = false, precision = 19, scale = 2)
-    private BigDecimal totalPrice;
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal totalPrice = BigDecimal.ZERO;
 
     @Column(nullable = false)
     private String status; // e.g., DRAFT, SENT, ACCEPTED, REJECTED
@@ -1,6 +1,7 @@
 package com.adavance.javabase.quoteplus.model;
 
 import com.adavance.javabase.model.BaseEntity;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -31,6 +32,14 @@ public class QuoteAddOn extends BaseEntity {
     @Column(precision = 19, scale = 2)
     private BigDecimal customPrice;
 
+    /**
+     * The price this line contributes to the quote total (zero when not included),
+     * maintained by QuotePricingListener so the total can be adjusted by the difference.
+     */
+    @Column(precision = 19, scale = 2)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private BigDecimal linePrice;
+
     @Column(length = 500)
     private String notes;
 }
@@ -0,0 +1,88 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Prices many candidate selections of one product at once, for what-if simulations.
+ * 
+ * Selections are priced against the product's in-memory PriceCatalog, so nothing is queried
+ * or persisted per selection. Batches of at least parallel-threshold selections are split
+ * across a dedicated fork-join pool, leaving the common pool and request threads alone.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchPricingService {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Pricing threads; 0 uses the number of available processors.
+     */
+    @Value("${javabase.quoteplus.pricing.parallelism:0}")
+    private int parallelism;
+
+    @Value("${javabase.quoteplus.pricing.parallel-threshold:64}")
+    private int parallelThreshold;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void init() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        ExecutorServiceMetrics.monitor(meterRegistry, pool, "quote-pricing");
+        log.info("Batch quote pricing on {} threads", pool.getParallelism());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Prices every selection against the catalog, in request order. Invalid selections
+     * are reported individually and do not affect the others.
+     */
+    public List<PricingResult> priceAll(PriceCatalog catalog, List<PricingSelection> selections) {
+        if (selections.size() < parallelThreshold) {
+            return IntStream.range(0, selections.size())
+                    .mapToObj(index -> price(catalog, selections.get(index), index))
+                    .toList();
+        }
+        try {
+            return pool.submit(() -> IntStream.range(0, selections.size())
+                            .parallel()
+                            .mapToObj(index -> price(catalog, selections.get(index), index))
+                            .toList())
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while pricing", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Batch pricing failed", e.getCause());
+        }
+    }
+
+    private static PricingResult price(PriceCatalog catalog, PricingSelection selection, int index) {
+        if (selection == null) {
+            return PricingResult.failure(index, "Selection is required");
+        }
+        try {
+            return PricingResult.success(index, QuotePricingEngine.total(catalog, selection));
+        } catch (IllegalArgumentException e) {
+            return PricingResult.failure(index, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable price list of one product: its base price and, for every add-on available for it,
+ * the effective price (ProductAddOn.customPrice, falling back to AddOn.basePrice), the
+ * selection rules and the price modifiers of the add-on's levels.
+ * 
+ * Add-ons and levels are indexed by id and by uuid, so pricing a quote or a candidate
+ * selection is a few map lookups. Instances are built by PriceCatalogService and shared
+ * between threads.
+ */
+@Getter
+public final class PriceCatalog {
+
+    private final Long productId;
+    private final String productUuid;
+    private final BigDecimal basePrice;
+
+    /**
+     * Add-ons in display order.
+     */
+    private final List<AddOnPrice> addOns;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<Long, AddOnPrice> addOnsById;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, AddOnPrice> addOnsByUuid;
+
+    /**
+     * An add-on as priced for the product.
+     *
+     * @param price             ProductAddOn.customPrice, or AddOn.basePrice when not set
+     * @param required          whether every quote must include the add-on
+     * @param includedByDefault whether the add-on is included unless deselected
+     * @param levels            the add-on's levels in level order
+     */
+    public record AddOnPrice(Long addOnId, String addOnUuid, BigDecimal price, boolean required,
+                             boolean includedByDefault, boolean active, List<LevelPrice> levels) {
+
+        public AddOnPrice {
+            levels = List.copyOf(levels);
+        }
+
+        public Optional<LevelPrice> level(Long levelId) {
+            return levels.stream().filter(level -> level.levelId().equals(levelId)).findFirst();
+        }
+
+        public Optional<LevelPrice> level(String levelUuid) {
+            return levels.stream().filter(level -> level.levelUuid().equals(levelUuid)).findFirst();
+        }
+    }
+
+    /**
+     * A level of an add-on, whose modifier is added to the add-on price.
+     */
+    public record LevelPrice(Long levelId, String levelUuid, BigDecimal priceModifier, boolean active) {
+    }
+
+    public PriceCatalog(Long productId, String productUuid, BigDecimal basePrice, Collection<AddOnPrice> addOns) {
+        this.productId = productId;
+        this.productUuid = productUuid;
+        this.basePrice = basePrice;
+        this.addOns = List.copyOf(addOns);
+        Map<Long, AddOnPrice> byId = new LinkedHashMap<>();
+        Map<String, AddOnPrice> byUuid = new LinkedHashMap<>();
+        for (AddOnPrice addOn : this.addOns) {
+            byId.put(addOn.addOnId(), addOn);
+            byUuid.put(addOn.addOnUuid(), addOn);
+        }
+        this.addOnsById = Collections.unmodifiableMap(byId);
+        this.addOnsByUuid = Collections.unmodifiableMap(byUuid);
+    }
+
+    public Optional<AddOnPrice> addOn(Long addOnId) {
+        return Optional.ofNullable(addOnsById.get(addOnId));
+    }
+
+    public Optional<AddOnPrice> addOn(String addOnUuid) {
+        return Optional.ofNullable(addOnsByUuid.get(addOnUuid));
+    }
+}
@@ -0,0 +1,148 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import com.adavance.javabase.quoteplus.model.AddOn;
+import com.adavance.javabase.quoteplus.model.AddOnLevel;
+import com.adavance.javabase.quoteplus.model.Product;
+import com.adavance.javabase.quoteplus.model.ProductAddOn;
+import com.adavance.javabase.repository.EntityChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.FlushMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads and caches the {@link PriceCatalog} of each product.
+ * 
+ * A catalog is read with three scalar queries (product, add-ons, levels), so no entities are
+ * loaded into the persistence context, and is then served from memory until a Product,
+ * ProductAddOn, AddOn or AddOnLevel change is committed through GenericRepository.
+ */
+@Service
+@Slf4j
+public class PriceCatalogService {
+
+    private static final Set<Class<?>> CATALOG_CLASSES =
+            Set.of(Product.class, ProductAddOn.class, AddOn.class, AddOnLevel.class);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<Long, PriceCatalog> catalogsByProductId = new ConcurrentHashMap<>();
+    private final Map<String, PriceCatalog> catalogsByProductUuid = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every invalidation, so a load that raced with one is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Gets the price catalog of a product, loading it on first use.
+     */
+    @Transactional(readOnly = true)
+    public Optional<PriceCatalog> getCatalog(Long productId) {
+        PriceCatalog cached = catalogsByProductId.get(productId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadGeneration = generation.get();
+        Optional<PriceCatalog> loaded = load(productId);
+        loaded.ifPresent(catalog -> {
+            catalogsByProductId.put(productId, catalog);
+            catalogsByProductUuid.put(catalog.getProductUuid(), catalog);
+            if (generation.get() != loadGeneration) {
+                catalogsByProductId.remove(productId);
+                catalogsByProductUuid.remove(catalog.getProductUuid());
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Gets the price catalog of a product by uuid, loading it on first use.
+     */
+    @Transactional(readOnly = true)
+    public Optional<PriceCatalog> getCatalog(String productUuid) {
+        PriceCatalog cached = catalogsByProductUuid.get(productUuid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        List<Long> productIds = entityManager.createQuery(
+                        "select p.id from Product p where p.uuid = :productUuid", Long.class)
+                .setParameter("productUuid", productUuid)
+                .setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL)
+                .getResultList();
+        return productIds.isEmpty() ? Optional.empty() : getCatalog(productIds.get(0));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        // An add-on or level can be offered by many products, so any change clears every catalog
+        if (CATALOG_CLASSES.contains(event.entityClass())) {
+            generation.incrementAndGet();
+            catalogsByProductId.clear();
+            catalogsByProductUuid.clear();
+            log.debug("Cleared price catalogs after {} {}", event.entityClass().getSimpleName(), event.type());
+        }
+    }
+
+    private Optional<PriceCatalog> load(Long productId) {
+        List<Tuple> products = scalarQuery(
+                "select p.uuid, p.basePrice from Product p where p.id = :productId", productId)
+                .getResultList();
+        if (products.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Long, List<PriceCatalog.LevelPrice>> levelsByAddOn = new HashMap<>();
+        scalarQuery("select l.addOn.id, l.id, l.uuid, l.priceModifier, l.active from AddOnLevel l"
+                + " where l.addOn.id in (select pa.addOn.id from ProductAddOn pa where pa.product.id = :productId)"
+                + " order by l.levelOrder", productId)
+                .getResultList()
+                .forEach(row -> levelsByAddOn.computeIfAbsent(row.get(0, Long.class), key -> new ArrayList<>())
+                        .add(new PriceCatalog.LevelPrice(row.get(1, Long.class), row.get(2, String.class),
+                                row.get(3, BigDecimal.class), row.get(4, Boolean.class))));
+
+        List<PriceCatalog.AddOnPrice> addOns = new ArrayList<>();
+        scalarQuery("select a.id, a.uuid, coalesce(pa.customPrice, a.basePrice), pa.required,"
+                + " pa.includedByDefault, a.active from ProductAddOn pa join pa.addOn a"
+                + " where pa.product.id = :productId order by pa.displayOrder, pa.id", productId)
+                .getResultList()
+                .forEach(row -> addOns.add(new PriceCatalog.AddOnPrice(row.get(0, Long.class),
+                        row.get(1, String.class), row.get(2, BigDecimal.class), row.get(3, Boolean.class),
+                        row.get(4, Boolean.class), row.get(5, Boolean.class),
+                        levelsByAddOn.getOrDefault(row.get(0, Long.class), List.of()))));
+
+        Tuple product = products.get(0);
+        return Optional.of(new PriceCatalog(productId, product.get(0, String.class),
+                product.get(1, BigDecimal.class), addOns));
+    }
+
+    /**
+     * Creates a scalar query by product id that does not flush pending changes, as catalogs
+     * are loaded while quotes are being written.
+     */
+    private TypedQuery<Tuple> scalarQuery(String jpql, Long productId) {
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        query.setParameter("productId", productId);
+        query.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        return query;
+    }
+}
@@ -0,0 +1,63 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Prices add-on selections without creating quotes:
+ * - POST /quoteplus/pricing/batch - Price N selections of one product, returning N totals
+ * 
+ * The body is {"productUuid": ..., "selections": [{"addOns": [{"addOnUuid", "levelUuid", "included"}]}]}.
+ * Each result carries the selection's index and either its total or the rule it violates.
+ * Unlisted add-ons included by default are priced, so a total is what a quote costs once it
+ * holds a line for every included add-on.
+ */
+@RestController
+@RequestMapping("/quoteplus/pricing")
+@RequiredArgsConstructor
+@Slf4j
+public class PricingController {
+
+    private final PriceCatalogService priceCatalogService;
+    private final BatchPricingService batchPricingService;
+
+    @Value("${javabase.quoteplus.pricing.max-batch-size:10000}")
+    private int maxBatchSize;
+
+    public record BatchPricingRequest(String productUuid, List<PricingSelection> selections) {
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<?> priceBatch(@RequestBody BatchPricingRequest request) {
+        if (request.productUuid() == null || request.selections() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "productUuid and selections are required"));
+        }
+        if (request.selections().size() > maxBatchSize) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Batch has " + request.selections().size()
+                            + " selections, the maximum is " + maxBatchSize));
+        }
+
+        Optional<PriceCatalog> catalog = priceCatalogService.getCatalog(request.productUuid());
+        if (catalog.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Product not found: " + request.productUuid()));
+        }
+
+        log.debug("POST /quoteplus/pricing/batch - Pricing {} selections of product {}",
+                request.selections().size(), request.productUuid());
+        List<PricingResult> results = batchPricingService.priceAll(catalog.get(), request.selections());
+        return ResponseEntity.ok(Map.of("productUuid", request.productUuid(), "results", results));
+    }
+}
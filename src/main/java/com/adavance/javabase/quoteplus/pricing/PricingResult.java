@@ -0,0 +1,21 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * Outcome of pricing one selection of a batch.
+ *
+ * @param index the position of the selection in the request
+ * @param total the total price, if the selection is valid
+ * @param error the validation error, if it is not
+ */
+public record PricingResult(int index, BigDecimal total, String error) {
+
+    static PricingResult success(int index, BigDecimal total) {
+        return new PricingResult(index, total, null);
+    }
+
+    static PricingResult failure(int index, String error) {
+        return new PricingResult(index, null, error);
+    }
+}
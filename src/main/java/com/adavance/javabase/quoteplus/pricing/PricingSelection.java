@@ -0,0 +1,20 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import java.util.List;
+
+/**
+ * A candidate choice of add-ons for a product, priced without creating a quote.
+ * Add-ons that are not listed are included when the product includes them by default.
+ *
+ * @param addOns the add-ons chosen, at most once each
+ */
+public record PricingSelection(List<SelectedAddOn> addOns) {
+
+    /**
+     * @param addOnUuid the add-on
+     * @param levelUuid the level of the add-on, if any
+     * @param included  whether the add-on is included; null means included
+     */
+    public record SelectedAddOn(String addOnUuid, String levelUuid, Boolean included) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import com.adavance.javabase.quoteplus.model.AddOnLevel;
+import com.adavance.javabase.quoteplus.model.QuoteAddOn;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Computes quote prices from a {@link PriceCatalog} with exact BigDecimal arithmetic.
+ * 
+ * An included line costs its QuoteAddOn.customPrice when set, otherwise the add-on's price for
+ * the product plus the selected level's modifier; excluded lines cost nothing. A quote total
+ * is the product base price plus its line prices, so a change to one line adjusts the total
+ * by the difference between its new and previous price (see {@link #reprice}).
+ * Prices are kept at the scale of the price columns.
+ */
+public final class QuotePricingEngine {
+
+    /**
+     * Scale of the price columns.
+     */
+    public static final int SCALE = 2;
+
+    private QuotePricingEngine() {
+        // Private constructor to hide the implicit public one
+    }
+
+    /**
+     * The price of a quote line.
+     *
+     * @throws IllegalArgumentException if the add-on is not available for the catalog's product,
+     *                                  or the level does not belong to the add-on, or either is
+     *                                  inactive, like in {@link #total(PriceCatalog, PricingSelection)}
+     */
+    public static BigDecimal linePrice(PriceCatalog catalog, QuoteAddOn line) {
+        if (line.getAddOn() == null) {
+            throw new IllegalArgumentException("Quote add-on has no add-on");
+        }
+        PriceCatalog.AddOnPrice addOn = catalog.addOn(line.getAddOn().getId())
+                .filter(PriceCatalog.AddOnPrice::active)
+                .orElseThrow(() -> new IllegalArgumentException("Add-on " + line.getAddOn().getUuid()
+                        + " is not available for product " + catalog.getProductUuid()));
+        AddOnLevel selectedLevel = line.getAddOnLevel();
+        PriceCatalog.LevelPrice level = selectedLevel == null ? null : addOn.level(selectedLevel.getId())
+                .filter(PriceCatalog.LevelPrice::active)
+                .orElseThrow(() -> new IllegalArgumentException("Level " + selectedLevel.getUuid()
+                        + " is not available for add-on " + addOn.addOnUuid()));
+        return linePrice(addOn, level, !Boolean.FALSE.equals(line.getIncluded()), line.getCustomPrice());
+    }
+
+    /**
+     * The price of an add-on with an optional level, or zero when it is not included.
+     */
+    public static BigDecimal linePrice(PriceCatalog.AddOnPrice addOn, PriceCatalog.LevelPrice level,
+                                       boolean included, BigDecimal customPrice) {
+        if (!included) {
+            return BigDecimal.ZERO.setScale(SCALE);
+        }
+        if (customPrice != null) {
+            return customPrice.setScale(SCALE, RoundingMode.HALF_UP);
+        }
+        BigDecimal price = addOn.price();
+        if (level != null) {
+            price = price.add(level.priceModifier());
+        }
+        return price.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The total of a candidate selection of add-ons for the catalog's product.
+     * Unlisted add-ons that the product includes by default are priced as if selected, so the
+     * total equals that of a quote holding one line per included add-on. A saved quote is only
+     * priced from the lines it holds (see {@link #total(PriceCatalog, Collection)}).
+     *
+     * @throws IllegalArgumentException if an add-on or level is unknown or inactive, an add-on is
+     *                                  chosen twice, or a required add-on is not included
+     */
+    public static BigDecimal total(PriceCatalog catalog, PricingSelection selection) {
+        Map<String, PricingSelection.SelectedAddOn> chosen = new HashMap<>();
+        if (selection.addOns() != null) {
+            for (PricingSelection.SelectedAddOn selected : selection.addOns()) {
+                if (selected.addOnUuid() == null) {
+                    throw new IllegalArgumentException("addOnUuid is required");
+                }
+                if (chosen.putIfAbsent(selected.addOnUuid(), selected) != null) {
+                    throw new IllegalArgumentException("Add-on " + selected.addOnUuid() + " is selected more than once");
+                }
+                PriceCatalog.AddOnPrice addOn = catalog.addOn(selected.addOnUuid())
+                        .filter(PriceCatalog.AddOnPrice::active)
+                        .orElseThrow(() -> new IllegalArgumentException("Add-on " + selected.addOnUuid()
+                                + " is not available for product " + catalog.getProductUuid()));
+                if (selected.levelUuid() != null && addOn.level(selected.levelUuid())
+                        .filter(PriceCatalog.LevelPrice::active).isEmpty()) {
+                    throw new IllegalArgumentException("Level " + selected.levelUuid()
+                            + " is not available for add-on " + addOn.addOnUuid());
+                }
+            }
+        }
+
+        BigDecimal total = catalog.getBasePrice();
+        for (PriceCatalog.AddOnPrice addOn : catalog.getAddOns()) {
+            PricingSelection.SelectedAddOn selected = chosen.get(addOn.addOnUuid());
+            boolean included = selected != null
+                    ? !Boolean.FALSE.equals(selected.included())
+                    : addOn.active() && addOn.includedByDefault();
+            if (!included) {
+                if (addOn.required() && addOn.active()) {
+                    throw new IllegalArgumentException("Add-on " + addOn.addOnUuid() + " is required");
+                }
+                continue;
+            }
+            PriceCatalog.LevelPrice level = selected != null && selected.levelUuid() != null
+                    ? addOn.level(selected.levelUuid()).orElseThrow()
+                    : null;
+            total = total.add(linePrice(addOn, level, true, null));
+        }
+        return total.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The total of a quote with the given lines. Unlike a selection, add-ons included by default
+     * count only when the quote has a line for them, and required add-ons are not enforced, since
+     * lines are added to a saved quote one at a time.
+     */
+    public static BigDecimal total(PriceCatalog catalog, Collection<QuoteAddOn> lines) {
+        BigDecimal total = catalog.getBasePrice();
+        for (QuoteAddOn line : lines) {
+            total = total.add(linePrice(catalog, line));
+        }
+        return total.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Adjusts a quote total for one line whose price changed; a new line has no previous price
+     * and a removed line no new price.
+     */
+    public static BigDecimal reprice(BigDecimal total, BigDecimal previousLinePrice, BigDecimal linePrice) {
+        BigDecimal adjusted = total != null ? total : BigDecimal.ZERO;
+        if (previousLinePrice != null) {
+            adjusted = adjusted.subtract(previousLinePrice);
+        }
+        if (linePrice != null) {
+            adjusted = adjusted.add(linePrice);
+        }
+        return adjusted.setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,113 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import com.adavance.javabase.quoteplus.model.Quote;
+import com.adavance.javabase.quoteplus.model.QuoteAddOn;
+import com.adavance.javabase.repository.EntityChangedEvent;
+import com.adavance.javabase.repository.GenericRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Keeps Quote.totalPrice and QuoteAddOn.linePrice up to date as quotes are written through
+ * GenericRepository. Runs synchronously in the writing transaction: CREATED is published
+ * before the entity is persisted and UPDATED before the changes are flushed, so the computed
+ * prices of a quote and its cascaded lines are written with the same INSERT or UPDATE.
+ * 
+ * Creating a Quote, or changing its product or replacing its lines, prices all its lines.
+ * Other quote updates (status, notes, customer) keep the stored prices, so a quote is not
+ * silently repriced against a catalog that changed after it was priced. Creating, updating or
+ * deleting a single QuoteAddOn only prices that line and adjusts the quote total by the
+ * difference from the line's previous price, without loading the other lines. Prices come
+ * from the product's cached PriceCatalog, so no add-on or level is queried.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QuotePricingListener {
+
+    private final PriceCatalogService priceCatalogService;
+    private final GenericRepository genericRepository;
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        Class<?> entityClass = event.entityClass();
+        if (entityClass == Quote.class) {
+            Quote quote = (Quote) Hibernate.unproxy(event.entity());
+            if (event.type() == EntityChangedEvent.Type.CREATED
+                    || (event.type() == EntityChangedEvent.Type.UPDATED && pricingChanged(quote))) {
+                price(quote, null);
+            }
+        } else if (entityClass == QuoteAddOn.class) {
+            reprice((QuoteAddOn) Hibernate.unproxy(event.entity()), event.type());
+        }
+    }
+
+    /**
+     * Whether an update changed what the quote is priced from. Line edits made through the
+     * QuoteAddOn endpoints are repriced on their own.
+     */
+    private boolean pricingChanged(Quote quote) {
+        return genericRepository.isChanged(quote, "product") || genericRepository.isChanged(quote, "selectedAddOns");
+    }
+
+    /**
+     * Prices every line of a quote, except one being deleted, and sets its total.
+     */
+    private void price(Quote quote, QuoteAddOn deletedLine) {
+        PriceCatalog catalog = catalog(quote);
+        BigDecimal total = catalog.getBasePrice();
+        for (QuoteAddOn line : quote.getSelectedAddOns()) {
+            if (line == deletedLine) {
+                continue;
+            }
+            BigDecimal linePrice = QuotePricingEngine.linePrice(catalog, line);
+            line.setLinePrice(linePrice);
+            total = total.add(linePrice);
+        }
+        quote.setTotalPrice(total.setScale(QuotePricingEngine.SCALE, RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Prices one changed line and adjusts its quote's total by the difference.
+     */
+    private void reprice(QuoteAddOn line, EntityChangedEvent.Type type) {
+        if (line.getQuote() == null) {
+            return;
+        }
+        // Lines added in a batch may have been detached from the quote's persistence context
+        Quote quote = genericRepository.findById(Quote.class, line.getQuote().getId());
+        if (quote == null) {
+            return;
+        }
+
+        BigDecimal previousLinePrice = type == EntityChangedEvent.Type.CREATED ? null : line.getLinePrice();
+        if (previousLinePrice == null && type != EntityChangedEvent.Type.CREATED) {
+            // Priced before line prices were kept, so the difference is unknown
+            price(quote, type == EntityChangedEvent.Type.DELETED ? line : null);
+            return;
+        }
+
+        BigDecimal linePrice = null;
+        if (type != EntityChangedEvent.Type.DELETED) {
+            linePrice = QuotePricingEngine.linePrice(catalog(quote), line);
+            line.setLinePrice(linePrice);
+        }
+        quote.setTotalPrice(QuotePricingEngine.reprice(quote.getTotalPrice(), previousLinePrice, linePrice));
+        log.debug("Repriced quote {} after {} of line {}: {}", quote.getUuid(), type, line.getUuid(),
+                quote.getTotalPrice());
+    }
+
+    private PriceCatalog catalog(Quote quote) {
+        if (quote.getProduct() == null) {
+            throw new IllegalArgumentException("Quote has no product");
+        }
+        return priceCatalogService.getCatalog(quote.getProduct().getId())
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + quote.getProduct().getUuid()));
+    }
+}
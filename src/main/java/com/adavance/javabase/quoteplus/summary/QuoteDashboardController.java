@@ -0,0 +1,57 @@
+package com.adavance.javabase.quoteplus.summary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Quote dashboard, served from the quote summary table:
+ * - GET /quoteplus/dashboard/quotes?groupBy=status,product,day&from=2026-10-01&to=2026-10-31
+ *   Number and total value of the quotes per group, for days (UTC) in the optional range
+ * 
+ * Reads cost one row per status, product and day rather than one per quote.
+ */
+@RestController
+@RequestMapping("/quoteplus/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+public class QuoteDashboardController {
+
+    private final QuoteSummaryService quoteSummaryService;
+
+    @GetMapping("/quotes")
+    public ResponseEntity<?> getQuoteSummary(
+            @RequestParam(defaultValue = "status,product,day") String groupBy,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to) {
+        List<String> groups = new ArrayList<>();
+        for (String group : groupBy.split(",")) {
+            if (!group.isBlank()) {
+                groups.add(group.trim());
+            }
+        }
+
+        try {
+            LocalDate fromDate = from != null ? LocalDate.parse(from) : null;
+            LocalDate toDate = to != null ? LocalDate.parse(to) : null;
+            return ResponseEntity.ok(Map.of("groups", quoteSummaryService.findDashboard(groups, fromDate, toDate)));
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Invalid date, expected yyyy-MM-dd: " + e.getParsedString()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.adavance.javabase.quoteplus.summary;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Number and total value of the quotes of one status, product and day, maintained by
+ * QuoteSummaryService so dashboards read one row per group instead of scanning quotes.
+ * Rows are only written with SQL by QuoteSummaryService, never through the entity.
+ */
+@Entity
+@Table(name = "quote_summaries")
+@Getter
+public class QuoteSummary {
+
+    @EmbeddedId
+    private QuoteSummaryKey id;
+
+    @Column(nullable = false)
+    private long quoteCount;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalValue;
+}
@@ -0,0 +1,44 @@
+package com.adavance.javabase.quoteplus.summary;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * The group a quote is summarized in: its status, product and creation day (UTC).
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class QuoteSummaryKey implements Serializable, Comparable<QuoteSummaryKey> {
+
+    private static final Comparator<QuoteSummaryKey> ORDER = Comparator
+            .comparing(QuoteSummaryKey::getQuoteDate)
+            .thenComparing(QuoteSummaryKey::getProductId)
+            .thenComparing(QuoteSummaryKey::getStatus);
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private LocalDate quoteDate;
+
+    @Override
+    public int compareTo(QuoteSummaryKey other) {
+        return ORDER.compare(this, other);
+    }
+}
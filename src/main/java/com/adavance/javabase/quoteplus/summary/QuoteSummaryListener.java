@@ -0,0 +1,139 @@
+package com.adavance.javabase.quoteplus.summary;
+
+import com.adavance.javabase.model.BaseEntity;
+import com.adavance.javabase.quoteplus.model.Quote;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Turns Hibernate insert, update and delete events of quotes into summary deltas.
+ * 
+ * Hibernate events carry the state written to the database and, for updates and deletes,
+ * the state it replaces, so the delta of any change (including status or product changes,
+ * which move a quote between groups) is known without reading the quote again. Events are
+ * raised while the persistence context is flushed; the deltas are only recorded here and
+ * written by QuoteSummaryService before the transaction commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuoteSummaryListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final List<String> SUMMARIZED_PROPERTIES = List.of("status", "product", "createdAt", "totalPrice");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final QuoteSummaryService quoteSummaryService;
+
+    /**
+     * Indexes of the summarized properties in the entity state, in SUMMARIZED_PROPERTIES order.
+     */
+    private volatile int[] propertyIndexes;
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Quote) {
+            record(event.getPersister(), null, event.getState());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Quote) {
+            if (event.getOldState() == null) {
+                // Updated without a loaded snapshot, so the previous group is unknown
+                quoteSummaryService.markUnreconciled();
+                return;
+            }
+            record(event.getPersister(), event.getOldState(), event.getState());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Quote) {
+            record(event.getPersister(), event.getDeletedState(), null);
+        }
+    }
+
+    /**
+     * Deltas are written in the flushing transaction, never after commit.
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(EntityPersister persister, Object[] oldState, Object[] newState) {
+        int[] indexes = propertyIndexes(persister);
+        QuoteSummaryKey oldKey = oldState != null ? key(oldState, indexes) : null;
+        QuoteSummaryKey newKey = newState != null ? key(newState, indexes) : null;
+        BigDecimal oldValue = oldState != null ? value(oldState, indexes) : BigDecimal.ZERO;
+        BigDecimal newValue = newState != null ? value(newState, indexes) : BigDecimal.ZERO;
+
+        if (oldKey != null && oldKey.equals(newKey)) {
+            if (oldValue.compareTo(newValue) != 0) {
+                quoteSummaryService.addDelta(newKey, 0, newValue.subtract(oldValue));
+            }
+            return;
+        }
+        if (oldKey != null) {
+            quoteSummaryService.addDelta(oldKey, -1, oldValue.negate());
+        }
+        if (newKey != null) {
+            quoteSummaryService.addDelta(newKey, 1, newValue);
+        }
+    }
+
+    private QuoteSummaryKey key(Object[] state, int[] indexes) {
+        String status = (String) state[indexes[0]];
+        BaseEntity product = (BaseEntity) state[indexes[1]];
+        Instant createdAt = (Instant) state[indexes[2]];
+        if (status == null || product == null || createdAt == null) {
+            return null;
+        }
+        return new QuoteSummaryKey(status, product.getId(), LocalDate.ofInstant(createdAt, ZoneOffset.UTC));
+    }
+
+    private BigDecimal value(Object[] state, int[] indexes) {
+        BigDecimal totalPrice = (BigDecimal) state[indexes[3]];
+        return totalPrice != null ? totalPrice : BigDecimal.ZERO;
+    }
+
+    private int[] propertyIndexes(EntityPersister persister) {
+        int[] indexes = propertyIndexes;
+        if (indexes == null) {
+            List<String> propertyNames = Arrays.asList(persister.getPropertyNames());
+            indexes = SUMMARIZED_PROPERTIES.stream().mapToInt(propertyNames::indexOf).toArray();
+            propertyIndexes = indexes;
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,266 @@
+package com.adavance.javabase.quoteplus.summary;
+
+import com.adavance.javabase.quoteplus.model.Quote;
+import com.adavance.javabase.quoteplus.model.QuoteAddOn;
+import com.adavance.javabase.repository.EntityChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.query.NativeQuery;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains the quote_summaries table and serves dashboard reads from it.
+ * 
+ * Quote changes are applied as deltas: QuoteSummaryListener records the count and value
+ * change of each affected group while the persistence context is flushed, the deltas are
+ * accumulated per transaction, and written just before commit with one upsert per group, in
+ * the same transaction as the quote changes. Groups are written in key order, so concurrent
+ * transactions lock shared rows in the same order.
+ * 
+ * A periodic reconciliation, also run shortly after startup to populate the table, recomputes
+ * the summary from the quotes table and corrects any drift, e.g. from quotes written with SQL
+ * outside of Hibernate.
+ */
+@Service
+@Slf4j
+public class QuoteSummaryService {
+
+    private static final String SUMMARY_TABLE = "quote_summaries";
+
+    /**
+     * The summary group of a quote row, matching QuoteSummaryListener.
+     */
+    private static final String QUOTE_GROUP = "status, product_id, CAST(created_at AT TIME ZONE 'UTC' AS date)";
+
+    private static final Set<String> DASHBOARD_GROUPS = Set.of("status", "product", "day");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Set when a change could not be applied as a delta, until the next reconciliation.
+     */
+    private final AtomicBoolean unreconciled = new AtomicBoolean();
+
+    /**
+     * Count and value change of one group.
+     */
+    private static final class Delta {
+        long count;
+        BigDecimal value = BigDecimal.ZERO;
+    }
+
+    /**
+     * Deltas of the current transaction, written before it commits.
+     */
+    private final class PendingDeltas implements TransactionSynchronization {
+
+        private final Map<QuoteSummaryKey, Delta> deltas = new TreeMap<>();
+        private boolean applied;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Flush first: Hibernate raises the remaining quote events while flushing
+            entityManager.flush();
+            apply(deltas);
+            applied = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(QuoteSummaryService.this);
+        }
+    }
+
+    /**
+     * Binds the delta buffer as soon as a quote is written, so it takes part in the commit
+     * even when the quote is only flushed by the commit itself.
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        Class<?> entityClass = event.entityClass();
+        if (entityClass == Quote.class || entityClass == QuoteAddOn.class) {
+            pendingDeltas();
+        }
+    }
+
+    /**
+     * Adds a change of one group to the current transaction's deltas.
+     */
+    void addDelta(QuoteSummaryKey key, long count, BigDecimal value) {
+        PendingDeltas pending = pendingDeltas();
+        if (pending == null || pending.applied) {
+            log.warn("Quote change to {} flushed outside of a transaction or after the summary was written,"
+                    + " left to reconciliation", key);
+            markUnreconciled();
+            return;
+        }
+        Delta delta = pending.deltas.computeIfAbsent(key, k -> new Delta());
+        delta.count += count;
+        delta.value = delta.value.add(value);
+    }
+
+    void markUnreconciled() {
+        unreconciled.set(true);
+    }
+
+    /**
+     * Recomputes the summary from the quotes table and corrects the rows that differ.
+     * The summary table is locked against delta writes meanwhile, so quote transactions
+     * committing during the reconciliation wait for it instead of being overwritten.
+     */
+    @Scheduled(initialDelayString = "${javabase.quoteplus.summary.initial-delay:30s}",
+            fixedDelayString = "${javabase.quoteplus.summary.reconcile-interval:1h}")
+    @Transactional
+    public void reconcile() {
+        long start = System.nanoTime();
+        boolean expectedDrift = unreconciled.getAndSet(false);
+
+        synchronizedUpdate("LOCK TABLE " + SUMMARY_TABLE + " IN SHARE ROW EXCLUSIVE MODE").executeUpdate();
+        int corrected = synchronizedUpdate(
+                "INSERT INTO " + SUMMARY_TABLE + " (status, product_id, quote_date, quote_count, total_value)"
+                        + " SELECT " + QUOTE_GROUP + ", COUNT(*), SUM(total_price) FROM quotes GROUP BY " + QUOTE_GROUP
+                        + " ON CONFLICT (status, product_id, quote_date) DO UPDATE"
+                        + " SET quote_count = EXCLUDED.quote_count, total_value = EXCLUDED.total_value"
+                        + " WHERE " + SUMMARY_TABLE + ".quote_count <> EXCLUDED.quote_count"
+                        + " OR " + SUMMARY_TABLE + ".total_value <> EXCLUDED.total_value")
+                .executeUpdate();
+        int removed = synchronizedUpdate(
+                "DELETE FROM " + SUMMARY_TABLE + " s WHERE NOT EXISTS (SELECT 1 FROM quotes q"
+                        + " WHERE q.status = s.status AND q.product_id = s.product_id"
+                        + " AND CAST(q.created_at AT TIME ZONE 'UTC' AS date) = s.quote_date)")
+                .executeUpdate();
+
+        if ((corrected > 0 || removed > 0) && !expectedDrift) {
+            log.warn("Quote summary reconciliation corrected {} and removed {} groups", corrected, removed);
+        } else {
+            log.info("Reconciled quote summary in {} ms ({} corrected, {} removed)",
+                    (System.nanoTime() - start) / 1_000_000, corrected, removed);
+        }
+    }
+
+    /**
+     * Reads the summary between two days (inclusive, either optional), grouped by any of
+     * status, product (by uuid) and day, with the number and total value of the quotes.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findDashboard(List<String> groupBy, LocalDate from, LocalDate to) {
+        for (String group : groupBy) {
+            if (!DASHBOARD_GROUPS.contains(group)) {
+                throw new IllegalArgumentException("Cannot group by " + group + ", expected status, product or day");
+            }
+        }
+
+        List<String> keys = new ArrayList<>();
+        for (String group : groupBy) {
+            keys.add(switch (group) {
+                case "status" -> "s.id.status";
+                case "product" -> "p.uuid";
+                default -> "s.id.quoteDate";
+            });
+        }
+        String keyList = String.join(", ", keys);
+        StringBuilder jpql = new StringBuilder("select ")
+                .append(keys.isEmpty() ? "" : keyList + ", ")
+                .append("sum(s.quoteCount), sum(s.totalValue) from QuoteSummary s")
+                .append(groupBy.contains("product") ? " join Product p on p.id = s.id.productId" : "")
+                .append(" where s.quoteCount > 0");
+        if (from != null) {
+            jpql.append(" and s.id.quoteDate >= :from");
+        }
+        if (to != null) {
+            jpql.append(" and s.id.quoteDate <= :to");
+        }
+        if (!keys.isEmpty()) {
+            jpql.append(" group by ").append(keyList).append(" order by ").append(keyList);
+        }
+
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql.toString(), Tuple.class);
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : query.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < groupBy.size(); i++) {
+                row.put(groupBy.get(i), tuple.get(i));
+            }
+            row.put("quoteCount", tuple.get(groupBy.size()));
+            row.put("totalValue", tuple.get(groupBy.size() + 1));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * The delta buffer of the current transaction, bound on first use; null outside a transaction.
+     */
+    private PendingDeltas pendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private void apply(Map<QuoteSummaryKey, Delta> deltas) {
+        for (Map.Entry<QuoteSummaryKey, Delta> entry : deltas.entrySet()) {
+            Delta delta = entry.getValue();
+            if (delta.count == 0 && delta.value.signum() == 0) {
+                continue;
+            }
+            QuoteSummaryKey key = entry.getKey();
+            synchronizedUpdate("INSERT INTO " + SUMMARY_TABLE
+                    + " (status, product_id, quote_date, quote_count, total_value)"
+                    + " VALUES (:status, :productId, :quoteDate, :count, :value)"
+                    + " ON CONFLICT (status, product_id, quote_date) DO UPDATE"
+                    + " SET quote_count = " + SUMMARY_TABLE + ".quote_count + EXCLUDED.quote_count,"
+                    + " total_value = " + SUMMARY_TABLE + ".total_value + EXCLUDED.total_value")
+                    .setParameter("status", key.getStatus())
+                    .setParameter("productId", key.getProductId())
+                    .setParameter("quoteDate", key.getQuoteDate())
+                    .setParameter("count", delta.count)
+                    .setParameter("value", delta.value)
+                    .executeUpdate();
+        }
+        deltas.clear();
+    }
+
+    /**
+     * Creates a native statement that only touches the summary table, so Hibernate neither
+     * flushes unrelated changes nor evicts second-level cache regions for it.
+     */
+    private Query synchronizedUpdate(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(SUMMARY_TABLE);
+        return query;
+    }
+}
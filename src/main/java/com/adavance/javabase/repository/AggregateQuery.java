@@ -0,0 +1,55 @@
+package com.adavance.javabase.repository;
+
+import java.util.List;
+
+/**
+ * Grouping and aggregates for an aggregate request, compiled by GenericRepository into a
+ * single GROUP BY query. Groups are returned ordered by their keys.
+ *
+ * @param groupBy the grouping keys, in output order; empty aggregates all rows into one group
+ * @param metrics the aggregates computed per group
+ */
+public record AggregateQuery(List<GroupBy> groupBy, List<Metric> metrics) {
+
+    /**
+     * Truncation of a temporal grouping key.
+     */
+    public enum TimeBucket {
+        YEAR,
+        MONTH,
+        DAY
+    }
+
+    public enum AggregateFunction {
+        COUNT,
+        SUM,
+        AVG,
+        MIN,
+        MAX
+    }
+
+    /**
+     * A grouping key: a scalar attribute, a scalar attribute truncated to a time bucket,
+     * or a to-one relationship, grouped and returned by the related entity's uuid.
+     *
+     * @param attribute the attribute
+     * @param relation  whether the attribute is a to-one relationship
+     * @param bucket    the time bucket of a temporal attribute, or null
+     */
+    public record GroupBy(String attribute, boolean relation, TimeBucket bucket) {
+    }
+
+    /**
+     * An aggregate, returned under {@link #key()}, e.g. "count" or "sum:totalPrice".
+     *
+     * @param function  the aggregate function
+     * @param attribute the numeric attribute, or null to count rows
+     */
+    public record Metric(AggregateFunction function, String attribute) {
+
+        public String key() {
+            String name = function.name().toLowerCase();
+            return attribute == null ? name : name + ":" + attribute;
+        }
+    }
+}
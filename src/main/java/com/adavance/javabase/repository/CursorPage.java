@@ -0,0 +1,12 @@
+package com.adavance.javabase.repository;
+
+import java.util.List;
+
+/**
+ * A single page of a keyset-paginated listing.
+ *
+ * @param items the entities in this page
+ * @param next  the cursor for the following page, or null if this is the last page
+ */
+public record CursorPage<T>(List<T> items, String next) {
+}
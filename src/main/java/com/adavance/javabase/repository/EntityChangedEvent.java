@@ -0,0 +1,30 @@
+package com.adavance.javabase.repository;
+
+import com.adavance.javabase.model.BaseEntity;
+import org.hibernate.Hibernate;
+
+/**
+ * Published by GenericRepository when it creates, updates or deletes an entity.
+ * Listeners that maintain derived state (caches, summaries) should use
+ * {@code @TransactionalEventListener} so they only react once the change is committed.
+ * CREATED is published just before the entity is persisted, so its id may not be assigned
+ * yet when synchronous listeners run, and values they set are written with the INSERT.
+ *
+ * @param entity the changed entity
+ * @param type   the kind of change
+ */
+public record EntityChangedEvent(BaseEntity entity, Type type) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    /**
+     * The entity class, resolved through Hibernate proxies.
+     */
+    public Class<?> entityClass() {
+        return Hibernate.getClass(entity);
+    }
+}
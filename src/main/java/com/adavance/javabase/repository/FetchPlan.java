@@ -0,0 +1,94 @@
+package com.adavance.javabase.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A tree of relationship paths to load together with the selected entities, e.g.
+ * "product,selectedAddOns.addOn" for a Quote.
+ * 
+ * To-one paths reachable from the root through to-one relationships only are fetch-joined
+ * into the query, since they do not multiply rows and keep pagination exact. Collections,
+ * and everything below them, are loaded on access through Hibernate batch fetching, which
+ * initializes the same relationship of every loaded entity in one query per batch.
+ */
+public final class FetchPlan {
+
+    private static final FetchPlan NONE = new FetchPlan(false);
+
+    private final boolean collection;
+    private final Map<String, FetchPlan> children = new LinkedHashMap<>();
+
+    private FetchPlan(boolean collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * A plan that loads no relationships.
+     */
+    public static FetchPlan none() {
+        return NONE;
+    }
+
+    /**
+     * Creates an empty root plan to add paths to.
+     */
+    public static FetchPlan root() {
+        return new FetchPlan(false);
+    }
+
+    /**
+     * Adds a relationship under this node, or returns the existing node for it.
+     */
+    public FetchPlan add(String attribute, boolean collection) {
+        if (this == NONE) {
+            throw new IllegalStateException("Cannot add paths to the empty plan");
+        }
+        return children.computeIfAbsent(attribute, name -> new FetchPlan(collection));
+    }
+
+    /**
+     * Whether this node is a to-many relationship.
+     */
+    public boolean isCollection() {
+        return collection;
+    }
+
+    public boolean isEmpty() {
+        return children.isEmpty();
+    }
+
+    public Optional<FetchPlan> getChild(String attribute) {
+        return Optional.ofNullable(children.get(attribute));
+    }
+
+    public Map<String, FetchPlan> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
+    /**
+     * The plan in its query parameter form, e.g. "product,selectedAddOns.addOn".
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendPaths(builder, "");
+        return builder.toString();
+    }
+
+    private void appendPaths(StringBuilder builder, String prefix) {
+        for (Map.Entry<String, FetchPlan> child : children.entrySet()) {
+            String path = prefix + child.getKey();
+            if (child.getValue().isEmpty()) {
+                if (!builder.isEmpty()) {
+                    builder.append(',');
+                }
+                builder.append(path);
+            } else {
+                child.getValue().appendPaths(builder, path + ".");
+            }
+        }
+    }
+}
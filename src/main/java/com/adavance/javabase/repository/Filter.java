@@ -0,0 +1,17 @@
+package com.adavance.javabase.repository;
+
+import java.util.List;
+
+/**
+ * A validated filter on a scalar attribute.
+ *
+ * @param attribute the entity attribute name
+ * @param operator  the comparison operator
+ * @param values    the operand(s), already converted to the attribute type; several only for IN
+ */
+public record Filter(String attribute, FilterOperator operator, List<Object> values) {
+
+    public Object value() {
+        return values.get(0);
+    }
+}
@@ -0,0 +1,40 @@
+package com.adavance.javabase.repository;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Comparison operators supported by list filters, written as {@code attribute[op]=value}
+ * in query parameters ({@code attribute=value} means eq).
+ */
+public enum FilterOperator {
+    EQ("eq"),
+    NE("ne"),
+    LT("lt"),
+    GT("gt"),
+    IN("in"),
+    LIKE("like");
+
+    private final String token;
+
+    FilterOperator(String token) {
+        this.token = token;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Whether the operator needs an ordered (Comparable) attribute.
+     */
+    public boolean isOrdering() {
+        return this == LT || this == GT;
+    }
+
+    public static Optional<FilterOperator> fromToken(String token) {
+        return Arrays.stream(values())
+                .filter(operator -> operator.token.equalsIgnoreCase(token))
+                .findFirst();
+    }
+}
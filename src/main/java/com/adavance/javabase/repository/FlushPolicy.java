@@ -0,0 +1,25 @@
+package com.adavance.javabase.repository;
+
+/**
+ * When GenericRepository.save and update send pending changes to the database.
+ * Configured with javabase.persistence.flush-policy.
+ */
+public enum FlushPolicy {
+
+    /**
+     * Flush after every save or update, one round trip per entity.
+     */
+    IMMEDIATE,
+
+    /**
+     * Leave changes to the flush at commit (or before a query that needs them),
+     * so they are sent as JDBC batches.
+     */
+    TRANSACTION,
+
+    /**
+     * Flush every javabase.persistence.flush-interval saves or updates within a transaction,
+     * bounding the pending work while still batching statements.
+     */
+    EVERY_N
+}
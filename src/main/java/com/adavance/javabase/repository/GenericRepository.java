@@ -3,27 +3,95 @@ package com.adavance.javabase.repository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.FetchParent;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.adavance.javabase.annotations.CachedEntity;
 import com.adavance.javabase.model.BaseEntity;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Generic repository for performing CRUD operations on any entity type.
  * Provides type-safe operations using reflection and JPQL.
+ * 
+ * The find/stream methods used by GET endpoints form a read path: they run in read-only
+ * transactions and load entities read-only with flush mode MANUAL, so Hibernate keeps no
+ * dirty-checking snapshots for them and never flushes. Entities they return must not be
+ * modified; writes load their entities with {@link #findByUuid(Class, String)} instead.
  */
 @Repository
+@DependsOn("idSequenceSynchronizer")
+@RequiredArgsConstructor
 @Slf4j
 public class GenericRepository {
 
+    /**
+     * Maximum number of UUIDs bound into a single IN clause.
+     */
+    private static final int UUID_BATCH_SIZE = 1000;
+
+    private final UuidCache uuidCache;
+    private final ApplicationEventPublisher eventPublisher;
+
     @PersistenceContext
     private EntityManager entityManager;
 
+    /**
+     * Number of entities persisted between flushes in bulk operations.
+     * Should match hibernate.jdbc.batch_size so each flush sends full JDBC batches.
+     */
+    @Value("${javabase.persistence.batch-size:50}")
+    private int batchSize;
+
+    /**
+     * When save and update flush their changes, see {@link FlushPolicy}.
+     */
+    @Value("${javabase.persistence.flush-policy:transaction}")
+    private FlushPolicy flushPolicy;
+
+    /**
+     * Number of saves or updates between flushes with the EVERY_N flush policy.
+     */
+    @Value("${javabase.persistence.flush-interval:50}")
+    private int flushInterval;
+
     /**
      * Finds all entities of the specified type.
      *
@@ -32,43 +100,436 @@ public class GenericRepository {
      */
     public <T extends BaseEntity> List<T> findAll(Class<T> entityClass) {
         String jpql = "SELECT e FROM " + entityClass.getSimpleName() + " e";
-        TypedQuery<T> query = entityManager.createQuery(jpql, entityClass);
+        TypedQuery<T> query = createQuery(jpql, entityClass);
         return query.getResultList();
     }
 
+    /**
+     * Finds a page of entities using keyset pagination.
+     * Rows are filtered and ordered as described by the list query, with the primary key as
+     * the final tiebreaker, and the query seeks past the cursor position, so the cost of a page
+     * does not depend on how deep into the result it is.
+     *
+     * @param entityClass the entity class
+     * @param listQuery the filters and sort to apply
+     * @param fetchPlan the relationships to load with the entities
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of entities in the page
+     * @return the page, with a cursor for the next page if more rows exist
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> CursorPage<T> findPage(Class<T> entityClass, ListQuery listQuery,
+                                                         FetchPlan fetchPlan, PageCursor cursor, int limit) {
+        List<Tuple> rows = findPageRows(entityClass, listQuery, cursor, limit, root -> {
+            fetchToOnePaths(root, fetchPlan);
+            return List.of(root);
+        });
+
+        List<T> items = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, rows.size()); i++) {
+            items.add(rows.get(i).get(0, entityClass));
+        }
+        if (rows.size() <= limit) {
+            return new CursorPage<>(items, null);
+        }
+        return new CursorPage<>(items, nextCursor(rows.get(limit - 1), items.get(limit - 1).getId(), listQuery));
+    }
+
+    /**
+     * Finds a page of entities like {@link #findPage}, but selects only the given scalar
+     * attributes into a tuple projection. No entity is hydrated or tracked by the persistence
+     * context, and only the selected columns are read from the database.
+     *
+     * @param entityClass the entity class
+     * @param fields the attributes to select, in response order
+     * @param listQuery the filters and sort to apply
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of rows in the page
+     * @return the page of attribute maps, with a cursor for the next page if more rows exist
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> CursorPage<Map<String, Object>> findProjectionPage(
+            Class<T> entityClass, List<String> fields, ListQuery listQuery, PageCursor cursor, int limit) {
+        List<Tuple> rows = findPageRows(entityClass, listQuery, cursor, limit, root -> projection(root, fields));
+
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, rows.size()); i++) {
+            items.add(toFieldMap(rows.get(i), fields));
+        }
+        if (rows.size() <= limit) {
+            return new CursorPage<>(items, null);
+        }
+        Tuple last = rows.get(limit - 1);
+        return new CursorPage<>(items, nextCursor(last, last.get(0, Long.class), listQuery));
+    }
+
+    /**
+     * Aggregates the entities of the specified type matching a list query's filters with a
+     * single GROUP BY query, returning one map per group with the grouping keys followed by
+     * the metrics, ordered by the grouping keys. Time buckets are returned as "2026", "2026-10"
+     * or "2026-10-16", and relationships as the related entity's uuid.
+     *
+     * @param entityClass the entity class
+     * @param aggregate the grouping keys and metrics
+     * @param listQuery the filters to apply; its sort is not used
+     * @param maxGroups the maximum number of groups returned
+     * @return the groups
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> List<Map<String, Object>> aggregate(Class<T> entityClass, AggregateQuery aggregate,
+                                                                      ListQuery listQuery, int maxGroups) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<T> root = criteria.from(entityClass);
+
+        List<Expression<?>> keys = new ArrayList<>();
+        for (AggregateQuery.GroupBy groupBy : aggregate.groupBy()) {
+            keys.addAll(groupKeys(cb, root, groupBy));
+        }
+        List<Selection<?>> selections = new ArrayList<>(keys);
+        for (AggregateQuery.Metric metric : aggregate.metrics()) {
+            selections.add(metricExpression(cb, root, metric));
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        for (Filter filter : listQuery.filters()) {
+            predicates.add(toPredicate(cb, root, filter));
+        }
+        criteria.multiselect(selections)
+                .where(predicates.toArray(new Predicate[0]))
+                .groupBy(keys)
+                .orderBy(keys.stream().map(cb::asc).toList());
+
+        List<Map<String, Object>> groups = new ArrayList<>();
+        for (Tuple row : entityManager.createQuery(criteria).setMaxResults(maxGroups).getResultList()) {
+            Map<String, Object> group = new LinkedHashMap<>();
+            int column = 0;
+            for (AggregateQuery.GroupBy groupBy : aggregate.groupBy()) {
+                if (groupBy.bucket() == null) {
+                    group.put(groupBy.attribute(), row.get(column++));
+                } else {
+                    int parts = groupBy.bucket().ordinal() + 1;
+                    group.put(groupBy.attribute(), bucketLabel(row, column, parts));
+                    column += parts;
+                }
+            }
+            for (AggregateQuery.Metric metric : aggregate.metrics()) {
+                group.put(metric.key(), row.get(column++));
+            }
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    /**
+     * Streams all entities of the specified type matching a list query to a consumer, reading
+     * them through a database cursor instead of materializing the full result list.
+     * The persistence context is cleared every {@code clearInterval} entities so that
+     * heap usage stays constant regardless of the table size; the consumer must not keep
+     * references to entities it has already received.
+     *
+     * @param entityClass the entity class
+     * @param listQuery the filters and sort to apply
+     * @param fetchSize the JDBC fetch size used by the cursor
+     * @param clearInterval the number of entities after which the persistence context is cleared
+     * @param consumer receives each entity as it is read
+     * @return the number of entities streamed
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> long streamAll(Class<T> entityClass, ListQuery listQuery, int fetchSize,
+                                                 int clearInterval, Consumer<? super T> consumer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> criteria = cb.createQuery(entityClass);
+        Root<T> root = criteria.from(entityClass);
+        criteria.select(root);
+        applyListQuery(cb, criteria, root, listQuery, null);
+
+        TypedQuery<T> query = readOnly(entityManager.createQuery(criteria));
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+        long count = 0;
+        try (Stream<T> stream = query.getResultStream()) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+                if (count % clearInterval == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Streams the given scalar attributes of all entities matching a list query to a consumer,
+     * like {@link #streamAll} but through a tuple projection, so nothing accumulates in the
+     * persistence context.
+     *
+     * @param entityClass the entity class
+     * @param fields the attributes to select, in response order
+     * @param listQuery the filters and sort to apply
+     * @param fetchSize the JDBC fetch size used by the cursor
+     * @param consumer receives the attribute map of each row as it is read
+     * @return the number of rows streamed
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> long streamProjection(Class<T> entityClass, List<String> fields, ListQuery listQuery,
+                                                        int fetchSize, Consumer<? super Map<String, Object>> consumer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<T> root = criteria.from(entityClass);
+        criteria.multiselect(projection(root, fields));
+        applyListQuery(cb, criteria, root, listQuery, null);
+
+        TypedQuery<Tuple> query = readOnly(entityManager.createQuery(criteria));
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+        long count = 0;
+        try (Stream<Tuple> stream = query.getResultStream()) {
+            Iterator<Tuple> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(toFieldMap(iterator.next(), fields));
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Finds an entity by UUID.
+     * For entity classes enabled in the uuid cache, a cached id is resolved with a primary
+     * key lookup, which the persistence context can answer without a query.
      *
      * @param entityClass the entity class
      * @param uuid the UUID to search for
      * @return Optional containing the entity if found, empty otherwise
      */
     public <T extends BaseEntity> Optional<T> findByUuid(Class<T> entityClass, String uuid) {
+        Long cachedId = uuidCache.getId(entityClass, uuid);
+        if (cachedId != null) {
+            T entity = entityManager.find(entityClass, cachedId);
+            if (entity != null && uuid.equals(entity.getUuid())) {
+                return Optional.of(entity);
+            }
+            // Stale mapping, e.g. the entity was deleted outside this repository
+            uuidCache.evict(entityClass, uuid);
+        }
+
         try {
             String jpql = "SELECT e FROM " + entityClass.getSimpleName() + " e WHERE e.uuid = :uuid";
-            TypedQuery<T> query = entityManager.createQuery(jpql, entityClass);
+            TypedQuery<T> query = createQuery(jpql, entityClass);
             query.setParameter("uuid", uuid);
-            return Optional.of(query.getSingleResult());
+            T entity = query.getSingleResult();
+            uuidCache.put(entityClass, uuid, entity.getId());
+            return Optional.of(entity);
         } catch (NoResultException e) {
             return Optional.empty();
         }
     }
 
+    /**
+     * Finds an entity by UUID, fetch-joining the to-one paths of the fetch plan.
+     * Collections in the plan are left to batch fetching, see {@link FetchPlan}.
+     *
+     * @param entityClass the entity class
+     * @param uuid the UUID to search for
+     * @param fetchPlan the relationships to load with the entity
+     * @return Optional containing the entity if found, empty otherwise
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> Optional<T> findByUuid(Class<T> entityClass, String uuid, FetchPlan fetchPlan) {
+        if (fetchPlan.isEmpty()) {
+            return findByUuid(entityClass, uuid);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> criteria = cb.createQuery(entityClass);
+        Root<T> root = criteria.from(entityClass);
+        fetchToOnePaths(root, fetchPlan);
+        criteria.select(root).where(cb.equal(root.get("uuid"), uuid));
+
+        List<T> results = readOnly(entityManager.createQuery(criteria)).getResultList();
+        return results.stream().findFirst();
+    }
+
+    /**
+     * Reads only the given scalar attributes of an entity by UUID, without loading it.
+     *
+     * @param entityClass the entity class
+     * @param uuid the UUID to search for
+     * @param fields the attributes to select, in response order
+     * @return the attribute map if the entity exists, empty otherwise
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> Optional<Map<String, Object>> findProjectionByUuid(
+            Class<T> entityClass, String uuid, List<String> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<T> root = criteria.from(entityClass);
+        criteria.multiselect(projection(root, fields));
+        criteria.where(cb.equal(root.get("uuid"), uuid));
+
+        List<Tuple> results = readOnly(entityManager.createQuery(criteria)).getResultList();
+        return results.stream().findFirst().map(row -> toFieldMap(row, fields));
+    }
+
+    /**
+     * Reads only the last update time of an entity, without loading it.
+     *
+     * @param entityClass the entity class
+     * @param uuid the UUID to search for
+     * @return the entity's updatedAt if it exists, empty otherwise
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> Optional<Instant> findUpdatedAtByUuid(Class<T> entityClass, String uuid) {
+        String jpql = "SELECT e.updatedAt FROM " + entityClass.getSimpleName() + " e WHERE e.uuid = :uuid";
+        List<Instant> results = readOnly(entityManager.createQuery(jpql, Instant.class))
+                .setParameter("uuid", uuid)
+                .getResultList();
+        return results.stream().findFirst();
+    }
+
+    /**
+     * Computes the version of one page of a list: the ids and updatedAt of the rows that
+     * {@link #findPage} would return, read with the same keyset query but without loading any
+     * entity. The cost depends on the page size, not on the size of the table.
+     *
+     * @param entityClass the entity class
+     * @param listQuery the filters and sort to apply
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of entities in the page
+     * @return the current version of the page
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> ListVersion findListVersion(Class<T> entityClass, ListQuery listQuery,
+                                                              PageCursor cursor, int limit) {
+        List<Tuple> rows = findPageRows(entityClass, listQuery, cursor, limit,
+                root -> List.of(root.get("id"), root.get("updatedAt")));
+
+        List<Long> ids = new ArrayList<>();
+        List<Instant> updatedAts = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, rows.size()); i++) {
+            ids.add(rows.get(i).get(0, Long.class));
+            updatedAts.add(rows.get(i).get(1, Instant.class));
+        }
+        return new ListVersion(ids, updatedAts, rows.size() > limit);
+    }
+
+    /**
+     * Finds all entities with the given UUIDs using one IN query per chunk of
+     * {@value #UUID_BATCH_SIZE} UUIDs. UUIDs that do not exist are simply absent from the result.
+     *
+     * @param entityClass the entity class
+     * @param uuids the UUIDs to search for
+     * @return the entities found, in no particular order
+     */
+    public <T extends BaseEntity> List<T> findAllByUuids(Class<T> entityClass, Collection<String> uuids) {
+        List<T> results = new ArrayList<>();
+        if (uuids.isEmpty()) {
+            return results;
+        }
+
+        String jpql = "SELECT e FROM " + entityClass.getSimpleName() + " e WHERE e.uuid IN (:uuids)";
+        List<String> remaining = new ArrayList<>(uuids);
+        for (int from = 0; from < remaining.size(); from += UUID_BATCH_SIZE) {
+            List<String> chunk = remaining.subList(from, Math.min(from + UUID_BATCH_SIZE, remaining.size()));
+            TypedQuery<T> query = createQuery(jpql, entityClass);
+            query.setParameter("uuids", chunk);
+            results.addAll(query.getResultList());
+        }
+        if (uuidCache.isEnabled(entityClass)) {
+            results.forEach(entity -> uuidCache.put(entityClass, entity.getUuid(), entity.getId()));
+        }
+        return results;
+    }
+
     /**
      * Persists a new entity.
+     * The CREATED event is published before the entity is persisted, so synchronous listeners
+     * can still set values that are written with the INSERT.
+     * The insert is flushed according to the flush policy; with write-behind policies,
+     * constraint violations surface at the next flush, so callers that must report them
+     * call {@link #flush()} explicitly.
      *
      * @param entity the entity to persist
      * @return the persisted entity
      */
     @Transactional
     public <T extends BaseEntity> T save(T entity) {
+        eventPublisher.publishEvent(new EntityChangedEvent(entity, EntityChangedEvent.Type.CREATED));
         entityManager.persist(entity);
-        entityManager.flush();
+        // Ids come from a sequence, so they are assigned on persist without a flush
+        uuidCache.put(Hibernate.getClass(entity), entity.getUuid(), entity.getId());
+        afterWrite();
         return entity;
     }
 
+    /**
+     * Persists many new entities in the current transaction.
+     * The persistence context is flushed and cleared every batch-size entities, so inserts
+     * are sent as JDBC batches and memory does not grow with the number of entities.
+     * The entities are detached once this method returns.
+     *
+     * @param entities the entities to persist
+     * @return the persisted entities
+     */
+    @Transactional
+    public <T extends BaseEntity> List<T> saveAll(List<T> entities) {
+        for (int i = 0; i < entities.size(); i++) {
+            T entity = entities.get(i);
+            eventPublisher.publishEvent(new EntityChangedEvent(entity, EntityChangedEvent.Type.CREATED));
+            entityManager.persist(entity);
+            uuidCache.put(Hibernate.getClass(entity), entity.getUuid(), entity.getId());
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return entities;
+    }
+
+    /**
+     * Deletes many entities in the current transaction, sending the deletes as JDBC batches.
+     *
+     * @param entities the managed entities to delete
+     */
+    @Transactional
+    public void deleteAll(Collection<? extends BaseEntity> entities) {
+        for (BaseEntity entity : entities) {
+            entityManager.remove(entity);
+            uuidCache.evict(Hibernate.getClass(entity), entity.getUuid());
+            eventPublisher.publishEvent(new EntityChangedEvent(entity, EntityChangedEvent.Type.DELETED));
+        }
+        entityManager.flush();
+    }
+
+    /**
+     * Flushes the changes made to many managed entities in the current transaction,
+     * sending the updates as JDBC batches.
+     *
+     * @param entities the managed entities that were modified
+     */
+    @Transactional
+    public void updateAll(Collection<? extends BaseEntity> entities) {
+        for (BaseEntity entity : entities) {
+            eventPublisher.publishEvent(new EntityChangedEvent(entity, EntityChangedEvent.Type.UPDATED));
+        }
+        entityManager.flush();
+    }
+
+    /**
+     * Flushes pending changes of the current transaction to the database.
+     */
+    public void flush() {
+        entityManager.flush();
+    }
+
     /**
      * Updates an existing entity.
+     * The update is flushed according to the flush policy, see {@link #save}.
      *
      * @param entity the entity to update
      * @return the updated entity
@@ -76,7 +537,10 @@ public class GenericRepository {
     @Transactional
     public <T extends BaseEntity> T update(T entity) {
         T merged = entityManager.merge(entity);
-        entityManager.flush();
+        // uuid and id never change, so an update only refreshes the cached mapping
+        uuidCache.put(Hibernate.getClass(merged), merged.getUuid(), merged.getId());
+        eventPublisher.publishEvent(new EntityChangedEvent(merged, EntityChangedEvent.Type.UPDATED));
+        afterWrite();
         return merged;
     }
 
@@ -88,6 +552,27 @@ public class GenericRepository {
     @Transactional
     public void delete(BaseEntity entity) {
         entityManager.remove(entity);
+        uuidCache.evict(Hibernate.getClass(entity), entity.getUuid());
+        eventPublisher.publishEvent(new EntityChangedEvent(entity, EntityChangedEvent.Type.DELETED));
+    }
+
+    /**
+     * Finds the single entity whose attribute has the given value, e.g. a user by username.
+     *
+     * @param entityClass the entity class
+     * @param attribute the attribute name, expected to be unique
+     * @param value the value to search for
+     * @return the entity if found, empty otherwise
+     */
+    @Transactional(readOnly = true)
+    public <T extends BaseEntity> Optional<T> findOneBy(Class<T> entityClass, String attribute, Object value) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> criteria = cb.createQuery(entityClass);
+        Root<T> root = criteria.from(entityClass);
+        criteria.select(root).where(cb.equal(root.get(attribute), value));
+
+        List<T> results = readOnly(entityManager.createQuery(criteria)).setMaxResults(1).getResultList();
+        return results.stream().findFirst();
     }
 
     /**
@@ -101,6 +586,33 @@ public class GenericRepository {
         return entityManager.find(entityClass, id);
     }
 
+    /**
+     * Checks whether an attribute of a managed entity differs from the value it was loaded with,
+     * i.e. whether the current transaction changed it. Related entities are compared by id and
+     * collections by identity, as EntityBinder replaces a collection to change it.
+     * Entities that are not managed or not persisted yet report every attribute as changed.
+     *
+     * @param entity the entity
+     * @param attribute the attribute name
+     * @return true if the attribute was changed or its loaded value is unknown
+     */
+    public boolean isChanged(BaseEntity entity, String attribute) {
+        EntityEntry entry = entityManager.unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal().getEntry(entity);
+        if (entry == null || entry.getLoadedState() == null) {
+            return true;
+        }
+        Object loaded = entry.getLoadedValue(attribute);
+        Object current = entry.getPersister().getPropertyValue(entity, attribute);
+        if (loaded instanceof BaseEntity loadedEntity && current instanceof BaseEntity currentEntity) {
+            return !Objects.equals(loadedEntity.getId(), currentEntity.getId());
+        }
+        if (loaded instanceof Collection<?> || current instanceof Collection<?>) {
+            return loaded != current;
+        }
+        return !Objects.equals(loaded, current);
+    }
+
     /**
      * Ensures an entity exists by UUID. If an entity with the given UUID exists, returns it.
      * If it doesn't exist, creates it and returns it.
@@ -126,4 +638,241 @@ public class GenericRepository {
         // Entity doesn't exist or has no UUID, create it
         return save(entity);
     }
+
+    /**
+     * Runs a keyset page query selecting the given head selections followed by the sort values,
+     * fetching one row more than the limit to know whether another page follows.
+     */
+    private <T extends BaseEntity> List<Tuple> findPageRows(Class<T> entityClass, ListQuery listQuery,
+                                                            PageCursor cursor, int limit,
+                                                            Function<Root<T>, List<Selection<?>>> head) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<T> root = criteria.from(entityClass);
+
+        // The sort values are selected last, to build the next cursor from the last row
+        List<Selection<?>> selections = new ArrayList<>(head.apply(root));
+        for (Sort sort : listQuery.sorts()) {
+            selections.add(root.get(sort.attribute()));
+        }
+        criteria.multiselect(selections);
+        applyListQuery(cb, criteria, root, listQuery, cursor);
+
+        TypedQuery<Tuple> query = readOnly(entityManager.createQuery(criteria));
+        if (entityClass.isAnnotationPresent(CachedEntity.class)) {
+            query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        }
+        query.setMaxResults(limit + 1);
+        return query.getResultList();
+    }
+
+    private String nextCursor(Tuple last, Long lastId, ListQuery listQuery) {
+        int first = last.getElements().size() - listQuery.sorts().size();
+        List<Object> sortValues = new ArrayList<>();
+        for (int i = first; i < last.getElements().size(); i++) {
+            sortValues.add(last.get(i));
+        }
+        return new PageCursor(lastId, listQuery.sortKey(), sortValues).encode();
+    }
+
+    /**
+     * Fetch-joins the to-one paths of a plan that are reachable through to-one relationships only.
+     */
+    private void fetchToOnePaths(FetchParent<?, ?> parent, FetchPlan fetchPlan) {
+        fetchPlan.getChildren().forEach((attribute, child) -> {
+            if (!child.isCollection()) {
+                fetchToOnePaths(parent.fetch(attribute, JoinType.LEFT), child);
+            }
+        });
+    }
+
+    /**
+     * Selects the id, used for the page cursor, followed by the requested attributes.
+     */
+    private <T extends BaseEntity> List<Selection<?>> projection(Root<T> root, List<String> fields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id"));
+        for (String field : fields) {
+            selections.add(root.get(field));
+        }
+        return selections;
+    }
+
+    private Map<String, Object> toFieldMap(Tuple row, List<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            values.put(fields.get(i), row.get(i + 1));
+        }
+        return values;
+    }
+
+    /**
+     * The expressions grouped on for a grouping key. A time bucket is grouped on its year,
+     * month and day parts (as many as the bucket needs), which are plain column expressions
+     * the database can group and order on without repeating bound parameters.
+     */
+    private <T extends BaseEntity> List<Expression<?>> groupKeys(CriteriaBuilder cb, Root<T> root,
+                                                                 AggregateQuery.GroupBy groupBy) {
+        if (groupBy.relation()) {
+            return List.of(root.join(groupBy.attribute(), JoinType.LEFT).get("uuid"));
+        }
+        Path<?> path = root.get(groupBy.attribute());
+        if (groupBy.bucket() == null) {
+            return List.of(path);
+        }
+        List<Expression<?>> parts = new ArrayList<>();
+        for (String part : List.of("year", "month", "day").subList(0, groupBy.bucket().ordinal() + 1)) {
+            parts.add(cb.function(part, Integer.class, path));
+        }
+        return parts;
+    }
+
+    private <T extends BaseEntity> Expression<?> metricExpression(CriteriaBuilder cb, Root<T> root,
+                                                                  AggregateQuery.Metric metric) {
+        if (metric.attribute() == null) {
+            return cb.count(root);
+        }
+        Path<Number> path = root.get(metric.attribute());
+        return switch (metric.function()) {
+            case COUNT -> cb.count(path);
+            case SUM -> cb.sum(path);
+            case AVG -> cb.avg(path);
+            case MIN -> cb.min(path);
+            case MAX -> cb.max(path);
+        };
+    }
+
+    private String bucketLabel(Tuple row, int column, int parts) {
+        if (row.get(column) == null) {
+            return null;
+        }
+        StringBuilder label = new StringBuilder(String.format("%04d", row.get(column, Integer.class)));
+        for (int i = 1; i < parts; i++) {
+            label.append(String.format("-%02d", row.get(column + i, Integer.class)));
+        }
+        return label.toString();
+    }
+
+    /**
+     * Adds the filters, the keyset position and the ordering of a list query to a criteria query.
+     * Rows are always ordered by id last, so the order is total and the keyset seek is exact.
+     */
+    private <T extends BaseEntity> void applyListQuery(CriteriaBuilder cb, CriteriaQuery<?> criteria, Root<T> root,
+                                                       ListQuery listQuery, PageCursor cursor) {
+        List<Predicate> predicates = new ArrayList<>();
+        for (Filter filter : listQuery.filters()) {
+            predicates.add(toPredicate(cb, root, filter));
+        }
+        if (cursor != null) {
+            predicates.add(keysetPredicate(cb, root, listQuery.sorts(), cursor));
+        }
+        criteria.where(predicates.toArray(new Predicate[0]));
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort sort : listQuery.sorts()) {
+            Path<?> path = root.get(sort.attribute());
+            orders.add(sort.ascending() ? cb.asc(path) : cb.desc(path));
+        }
+        orders.add(cb.asc(root.get("id")));
+        criteria.orderBy(orders);
+    }
+
+    private <T extends BaseEntity> Predicate toPredicate(CriteriaBuilder cb, Root<T> root, Filter filter) {
+        Path<Object> path = root.get(filter.attribute());
+        return switch (filter.operator()) {
+            case EQ -> cb.equal(path, filter.value());
+            case NE -> cb.notEqual(path, filter.value());
+            case LT -> compare(cb, path, filter.value(), false);
+            case GT -> compare(cb, path, filter.value(), true);
+            case IN -> path.in(filter.values());
+            case LIKE -> cb.like(root.get(filter.attribute()), (String) filter.value());
+        };
+    }
+
+    /**
+     * Matches the rows strictly after the cursor in the (sorts..., id) order: for each sort
+     * key, the rows equal on all previous keys and past the cursor on this one.
+     */
+    private <T extends BaseEntity> Predicate keysetPredicate(CriteriaBuilder cb, Root<T> root, List<Sort> sorts,
+                                                             PageCursor cursor) {
+        List<Predicate> alternatives = new ArrayList<>();
+        List<Predicate> equalities = new ArrayList<>();
+        for (int i = 0; i < sorts.size(); i++) {
+            Sort sort = sorts.get(i);
+            Path<Object> path = root.get(sort.attribute());
+            Object value = cursor.sortValues().get(i);
+
+            List<Predicate> alternative = new ArrayList<>(equalities);
+            alternative.add(compare(cb, path, value, sort.ascending()));
+            alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+            equalities.add(cb.equal(path, value));
+        }
+        equalities.add(cb.greaterThan(root.<Long>get("id"), cursor.lastId()));
+        alternatives.add(cb.and(equalities.toArray(new Predicate[0])));
+        return cb.or(alternatives.toArray(new Predicate[0]));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate compare(CriteriaBuilder cb, Path<?> path, Object value, boolean greater) {
+        Expression<Comparable> expression = (Expression<Comparable>) path;
+        return greater
+                ? cb.greaterThan(expression, (Comparable) value)
+                : cb.lessThan(expression, (Comparable) value);
+    }
+
+    /**
+     * Applies the flush policy after a save or update.
+     */
+    private void afterWrite() {
+        switch (flushPolicy) {
+            case IMMEDIATE -> entityManager.flush();
+            case TRANSACTION -> {
+                // Flushed at commit
+            }
+            case EVERY_N -> {
+                if (pendingWrites().incrementAndGet() % flushInterval == 0) {
+                    entityManager.flush();
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts the writes of the current transaction, bound as a transaction resource.
+     */
+    private AtomicInteger pendingWrites() {
+        AtomicInteger counter = (AtomicInteger) TransactionSynchronizationManager.getResource(this);
+        if (counter == null) {
+            counter = new AtomicInteger();
+            TransactionSynchronizationManager.bindResource(this, counter);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(GenericRepository.this);
+                }
+            });
+        }
+        return counter;
+    }
+
+    /**
+     * Marks a query as part of the read path: the entities it loads are read-only, so no
+     * dirty-checking snapshot is kept for them, and it does not trigger an automatic flush.
+     */
+    private <Q extends TypedQuery<?>> Q readOnly(Q query) {
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.setHint(HibernateHints.HINT_FLUSH_MODE, FlushMode.MANUAL);
+        return query;
+    }
+
+    /**
+     * Creates a query over an entity, using the query cache for @CachedEntity entities.
+     */
+    private <T extends BaseEntity> TypedQuery<T> createQuery(String jpql, Class<T> entityClass) {
+        TypedQuery<T> query = entityManager.createQuery(jpql, entityClass);
+        if (entityClass.isAnnotationPresent(CachedEntity.class)) {
+            query.setHint(HibernateHints.HINT_CACHEABLE, true);
+        }
+        return query;
+    }
 }
@@ -0,0 +1,82 @@
+package com.adavance.javabase.repository;
+
+import com.adavance.javabase.model.BaseEntity;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Migration path from IDENTITY to sequence-generated ids.
+ * Schemas created before the switch already contain rows whose ids were assigned by identity
+ * columns, while the new shared sequence starts at 1. On startup this component moves the
+ * sequence past the highest existing id of every entity table, before any entity is persisted.
+ * The identity columns themselves are left in place: they are GENERATED BY DEFAULT, so the
+ * explicit ids assigned by Hibernate are accepted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceSynchronizer {
+
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${javabase.id.sync-sequence-on-startup:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    public void synchronizeSequence() {
+        if (!enabled) {
+            return;
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            long maxId = 0;
+            for (EntityType<?> entityType : entityManager.getMetamodel().getEntities()) {
+                Class<?> entityClass = entityType.getJavaType();
+                if (BaseEntity.class.isAssignableFrom(entityClass)) {
+                    maxId = Math.max(maxId, findMaxId(entityClass));
+                }
+            }
+
+            Number lastValue = (Number) entityManager
+                    .createNativeQuery("SELECT last_value FROM " + BaseEntity.ID_SEQUENCE)
+                    .getSingleResult();
+            if (maxId >= lastValue.longValue()) {
+                entityManager.createNativeQuery("SELECT setval('" + BaseEntity.ID_SEQUENCE + "', :value)")
+                        .setParameter("value", maxId)
+                        .getSingleResult();
+                log.info("Moved {} past existing ids (max id {})", BaseEntity.ID_SEQUENCE, maxId);
+            }
+        });
+    }
+
+    private long findMaxId(Class<?> entityClass) {
+        Number maxId = (Number) entityManager
+                .createNativeQuery("SELECT COALESCE(MAX(id), 0) FROM " + tableName(entityClass))
+                .getSingleResult();
+        return maxId.longValue();
+    }
+
+    /**
+     * Resolves the table name from @Table, falling back to the default snake_case naming.
+     */
+    private String tableName(Class<?> entityClass) {
+        Table table = entityClass.getAnnotation(Table.class);
+        if (table != null && !table.name().isEmpty()) {
+            return table.name();
+        }
+        return entityClass.getSimpleName()
+                .replaceAll("([a-z])([A-Z])", "$1_$2")
+                .toLowerCase();
+    }
+}
@@ -0,0 +1,29 @@
+package com.adavance.javabase.repository;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Selection and ordering for a list request, compiled by GenericRepository into a
+ * parameterized Criteria query. Results are always ordered by the sort keys followed
+ * by id, which makes the order total and allows keyset pagination on any sort.
+ *
+ * @param filters the filters, combined with AND
+ * @param sorts   the sort keys, in priority order
+ */
+public record ListQuery(List<Filter> filters, List<Sort> sorts) {
+
+    private static final ListQuery UNFILTERED = new ListQuery(List.of(), List.of());
+
+    public static ListQuery unfiltered() {
+        return UNFILTERED;
+    }
+
+    /**
+     * The sort specification in its query parameter form, e.g. "-basePrice,name".
+     * Stored in page cursors so that a cursor is only used with the sort it was created for.
+     */
+    public String sortKey() {
+        return sorts.stream().map(Sort::toString).collect(Collectors.joining(","));
+    }
+}
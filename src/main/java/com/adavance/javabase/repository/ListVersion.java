@@ -0,0 +1,32 @@
+package com.adavance.javabase.repository;
+
+import com.adavance.javabase.model.BaseEntity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fingerprint of one page of a list, used to validate cached list responses.
+ * Any insert, update or delete of a row on the page changes the ids or updatedAt values,
+ * while changes to rows on other pages leave it untouched.
+ *
+ * @param ids        the ids of the rows on the page, in page order
+ * @param updatedAts the updatedAt of each row, in page order
+ * @param hasNext    whether another page follows
+ */
+public record ListVersion(List<Long> ids, List<Instant> updatedAts, boolean hasNext) {
+
+    /**
+     * Builds the version of a page that has already been loaded.
+     */
+    public static ListVersion of(CursorPage<? extends BaseEntity> page) {
+        List<Long> ids = new ArrayList<>();
+        List<Instant> updatedAts = new ArrayList<>();
+        for (BaseEntity entity : page.items()) {
+            ids.add(entity.getId());
+            updatedAts.add(entity.getUpdatedAt());
+        }
+        return new ListVersion(ids, updatedAts, page.next() != null);
+    }
+}
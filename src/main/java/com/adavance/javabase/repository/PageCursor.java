@@ -0,0 +1,78 @@
+package com.adavance.javabase.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Opaque keyset pagination cursor.
+ * Points just past the last row returned in the previous page: its id and, when the list
+ * is sorted, its sort key values. Clients receive it Base64url-encoded and must pass it back
+ * unchanged, together with the same sort.
+ *
+ * @param lastId     the id of the last row of the previous page
+ * @param sortKey    the sort specification the cursor was created for (see ListQuery#sortKey)
+ * @param sortValues the sort key values of the last row; strings when decoded, typed once resolved
+ */
+public record PageCursor(Long lastId, String sortKey, List<Object> sortValues) {
+
+    private static final String VERSION = "v2";
+    private static final String LEGACY_VERSION = "v1";
+
+    public PageCursor {
+        if (lastId == null) {
+            throw new IllegalArgumentException("Cursor requires a last id");
+        }
+        sortKey = sortKey != null ? sortKey : "";
+        sortValues = sortValues != null ? List.copyOf(sortValues) : List.of();
+    }
+
+    public PageCursor(Long lastId) {
+        this(lastId, "", List.of());
+    }
+
+    /**
+     * Encodes this cursor into its opaque string form.
+     */
+    public String encode() {
+        StringBuilder raw = new StringBuilder(VERSION).append(':').append(lastId)
+                .append(':').append(encodePart(sortKey));
+        for (Object value : sortValues) {
+            raw.append(':').append(encodePart(value.toString()));
+        }
+        return encodePart(raw.toString());
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}. Sort values are returned as strings.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        try {
+            String[] parts = decodePart(cursor).split(":", -1);
+            if (parts.length == 2 && LEGACY_VERSION.equals(parts[0])) {
+                return new PageCursor(Long.parseLong(parts[1]));
+            }
+            if (parts.length < 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported cursor format");
+            }
+            List<Object> sortValues = new ArrayList<>();
+            for (int i = 3; i < parts.length; i++) {
+                sortValues.add(decodePart(parts[i]));
+            }
+            return new PageCursor(Long.parseLong(parts[1]), decodePart(parts[2]), sortValues);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static String encodePart(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodePart(String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+}
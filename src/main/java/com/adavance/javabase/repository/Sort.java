@@ -0,0 +1,18 @@
+package com.adavance.javabase.repository;
+
+/**
+ * A validated sort key on a non-null, comparable scalar attribute.
+ *
+ * @param attribute the entity attribute name
+ * @param ascending the sort direction
+ */
+public record Sort(String attribute, boolean ascending) {
+
+    /**
+     * The sort key in its query parameter form, e.g. "-basePrice".
+     */
+    @Override
+    public String toString() {
+        return (ascending ? "" : "-") + attribute;
+    }
+}
@@ -0,0 +1,113 @@
+package com.adavance.javabase.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Bounded, time-limited cache of uuid to id mappings, used by GenericRepository to turn
+ * uuid lookups into primary key lookups. A primary key lookup is answered from the
+ * persistence context (and the second-level cache, when enabled) without a query.
+ *
+ * Only entity classes listed in javabase.cache.uuid.entities (simple class names) are cached.
+ * Backed by a Caffeine cache, so lookups take no global lock: entries are evicted beyond
+ * max-size and expire after ttl. Hit, miss and eviction counts are published as
+ * javabase.uuid.cache.* metrics.
+ */
+@Component
+@RequiredArgsConstructor
+public class UuidCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${javabase.cache.uuid.entities:}")
+    private Set<String> enabledEntities;
+
+    @Value("${javabase.cache.uuid.max-size:10000}")
+    private int maxSize;
+
+    @Value("${javabase.cache.uuid.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<Key, Long> entries;
+
+    @PostConstruct
+    public void init() {
+        entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        FunctionCounter.builder("javabase.uuid.cache.gets", entries, cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .description("uuid cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("javabase.uuid.cache.gets", entries, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .description("uuid cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("javabase.uuid.cache.evictions", entries, cache -> cache.stats().evictionCount())
+                .description("uuid cache entries evicted because the cache was full or they expired")
+                .register(meterRegistry);
+        Gauge.builder("javabase.uuid.cache.size", entries, Cache::estimatedSize)
+                .description("uuid cache entries")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether uuids of the given entity class are cached.
+     */
+    public boolean isEnabled(Class<?> entityClass) {
+        return enabledEntities.contains(entityClass.getSimpleName());
+    }
+
+    /**
+     * Gets the cached id for a uuid, or null if absent, expired or the class is not cached.
+     */
+    public Long getId(Class<?> entityClass, String uuid) {
+        if (!isEnabled(entityClass)) {
+            return null;
+        }
+        return entries.getIfPresent(new Key(entityClass, uuid));
+    }
+
+    /**
+     * Caches the id of an entity.
+     */
+    public void put(Class<?> entityClass, String uuid, Long id) {
+        if (uuid == null || id == null || !isEnabled(entityClass)) {
+            return;
+        }
+        entries.put(new Key(entityClass, uuid), id);
+    }
+
+    /**
+     * Removes the mapping for a uuid.
+     */
+    public void evict(Class<?> entityClass, String uuid) {
+        if (uuid == null || !isEnabled(entityClass)) {
+            return;
+        }
+        entries.invalidate(new Key(entityClass, uuid));
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    public void clear() {
+        entries.invalidateAll();
+    }
+
+    private record Key(Class<?> entityClass, String uuid) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.adavance.javabase.security;
+
+import com.adavance.javabase.model.User;
+import com.adavance.javabase.util.EncryptionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashes passwords with BCrypt on a dedicated executor, sized to the CPU and with a bounded
+ * queue, so that hashing never runs inside a JPA flush while a transaction and a database
+ * connection are held, and a burst of hashes cannot starve request threads of CPU.
+ * 
+ * Entities are prepared with {@link #prepare(Object)} before the transaction that persists
+ * them starts. The BCrypt cost factor is javabase.security.password.bcrypt-strength.
+ * Hash latency is published as javabase.password.hash; executor activity and queueing as the
+ * executor.* metrics tagged name=password-hash.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PasswordHashingService {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${javabase.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    /**
+     * Hashing threads; 0 uses the number of available processors.
+     */
+    @Value("${javabase.security.password.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${javabase.security.password.queue-capacity:100}")
+    private int queueCapacity;
+
+    private BCryptPasswordEncoder encoder;
+    private ThreadPoolExecutor threadPool;
+    private ExecutorService executor;
+    private Timer hashTimer;
+
+    @PostConstruct
+    public void init() {
+        encoder = new BCryptPasswordEncoder(bcryptStrength);
+        // The User persistence fallback hashes through EncryptionUtils
+        EncryptionUtils.useEncoder(encoder);
+
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        threadPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, "password-hash");
+
+        hashTimer = Timer.builder("javabase.password.hash")
+                .description("Time to hash a password, including time queued for a hashing thread")
+                .register(meterRegistry);
+        log.info("Password hashing with BCrypt strength {} on {} threads", bcryptStrength, threads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        threadPool.shutdown();
+    }
+
+    /**
+     * Hashes a password on the hashing executor.
+     *
+     * @throws IllegalStateException if the hashing queue is full
+     */
+    public CompletableFuture<String> hashAsync(String rawPassword) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return CompletableFuture.supplyAsync(() -> encoder.encode(rawPassword), executor)
+                    .whenComplete((hash, error) -> sample.stop(hashTimer));
+        } catch (RejectedExecutionException e) {
+            throw new IllegalStateException("Password hashing queue is full", e);
+        }
+    }
+
+    /**
+     * Hashes a password on the hashing executor, waiting for the result.
+     */
+    public String hash(String rawPassword) {
+        try {
+            return hashAsync(rawPassword).join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Checks a password against a hash.
+     */
+    public boolean verify(String rawPassword, String hash) {
+        return encoder.matches(rawPassword, hash);
+    }
+
+    /**
+     * Whether {@link #prepare(Object)} has a password to hash for the entity.
+     */
+    public boolean needsPreparation(Object entity) {
+        return entity instanceof User user && user.getRawPassword() != null;
+    }
+
+    /**
+     * Pre-persist stage: hashes the raw password of a user, if one is set, and clears it,
+     * so the persistence lifecycle has nothing left to hash. Other entities are left unchanged.
+     * Must be called before the transaction that persists the entity starts.
+     */
+    public void prepare(Object entity) {
+        if (needsPreparation(entity)) {
+            User user = (User) entity;
+            user.setEncryptedPassword(hash(user.getRawPassword()));
+            user.setRawPassword(null);
+        }
+    }
+}
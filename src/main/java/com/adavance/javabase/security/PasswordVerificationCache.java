@@ -0,0 +1,125 @@
+package com.adavance.javabase.security;
+
+import com.adavance.javabase.util.EncryptionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Short-lived cache of successful password verifications in front of
+ * {@link EncryptionUtils#verify}, so that repeated authentication with the same credentials
+ * costs an HMAC instead of a BCrypt hash.
+ * 
+ * Entries are keyed by HMAC-SHA256 of the stored hash and the raw password under a random
+ * key generated at startup, so the cache never holds passwords or anything that can be
+ * checked against them outside this process. Because the stored hash is part of the key,
+ * changing User.encryptedPassword invalidates its entries: they can no longer match and
+ * age out. Failed verifications are never cached, so guessing still pays for BCrypt.
+ * 
+ * Backed by a Caffeine cache, so concurrent logins take no global lock: entries are evicted
+ * beyond max-size and expire after ttl. Hit, miss and eviction counts are published as
+ * javabase.password.verify.cache.* metrics.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordVerificationCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${javabase.security.password.verification-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${javabase.security.password.verification-cache.ttl:5m}")
+    private Duration ttl;
+
+    private SecretKeySpec hmacKey;
+    private Cache<String, Boolean> verifications;
+
+    @PostConstruct
+    public void init() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        hmacKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+
+        verifications = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        FunctionCounter.builder("javabase.password.verify.cache.gets", verifications,
+                        cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .description("Password verifications answered by the verification cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("javabase.password.verify.cache.gets", verifications,
+                        cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .description("Password verifications answered by the verification cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("javabase.password.verify.cache.evictions", verifications,
+                        cache -> cache.stats().evictionCount())
+                .description("Cached password verifications evicted because the cache was full or they expired")
+                .register(meterRegistry);
+        Gauge.builder("javabase.password.verify.cache.size", verifications, Cache::estimatedSize)
+                .description("Cached successful password verifications")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks a password against a stored hash, answering from the cache when the same
+     * credentials were verified successfully within the ttl.
+     */
+    public boolean verify(String rawPassword, String hash) {
+        if (rawPassword == null || hash == null) {
+            return false;
+        }
+
+        String key = cacheKey(rawPassword, hash);
+        if (verifications.getIfPresent(key) != null) {
+            return true;
+        }
+
+        boolean verified = EncryptionUtils.verify(rawPassword, hash);
+        if (verified) {
+            verifications.put(key, Boolean.TRUE);
+        }
+        return verified;
+    }
+
+    /**
+     * Removes all cached verifications.
+     */
+    public void clear() {
+        verifications.invalidateAll();
+    }
+
+    private String cacheKey(String rawPassword, String hash) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hmacKey);
+            mac.update(hash.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(rawPassword.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.adavance.javabase.security;
+
+import com.adavance.javabase.util.EntityDiscovery;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Authorizes /rest requests against the permissions of the authenticated user.
+ * The required permission is "Entity.action", with the entity's class name and the action
+ * derived from the HTTP method: GET/HEAD read, POST create, PUT/PATCH update, DELETE delete.
+ * The entity name is taken from the decoded path, the same path the controller matches, and
+ * requests for unknown entities are answered with 404 here instead of passing through.
+ * Other paths can be given a fixed permission by path prefix, e.g. "/quoteplus/dashboard" to
+ * "Quote.read", so endpoints serving entity data outside /rest are authorized the same way.
+ * Token-authenticated requests are checked against the permissions carried by the token.
+ * 
+ * Registered in the security filter chain by SecurityConfig, not as a servlet filter.
+ */
+@RequiredArgsConstructor
+public class PermissionAuthorizationFilter extends OncePerRequestFilter {
+
+    private static final String REST_PREFIX = "/rest/";
+
+    private final PermissionService permissionService;
+    private final EntityDiscovery entityDiscovery;
+
+    /**
+     * Permissions ("Entity.action") required for paths outside /rest, by path prefix.
+     */
+    private final Map<String, String> pathPermissions;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        return !path.startsWith(REST_PREFIX) && pathPermission(path) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // Decoded like the controller's path variable, so "%71uote" is checked as "quote"
+        String fullPath = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        if (!fullPath.startsWith(REST_PREFIX)) {
+            String permission = pathPermission(fullPath);
+            int dot = permission.indexOf('.');
+            authorize(request, response, filterChain, permission.substring(0, dot), permission.substring(dot + 1));
+            return;
+        }
+
+        String path = fullPath.substring(REST_PREFIX.length());
+        int slash = path.indexOf('/');
+        String entityName = slash >= 0 ? path.substring(0, slash) : path;
+
+        Optional<Class<?>> entityClass = entityDiscovery.getEntityClass(entityName);
+        if (entityClass.isEmpty()) {
+            writeError(response, HttpStatus.NOT_FOUND, "Entity not found");
+            return;
+        }
+        String action = action(request.getMethod());
+        if (action == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        authorize(request, response, filterChain, entityClass.get().getSimpleName(), action);
+    }
+
+    private void authorize(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                           String entity, String action) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !isGranted(authentication, entity, action)) {
+            writeError(response, HttpStatus.FORBIDDEN, "Permission denied: " + entity + "." + action);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String pathPermission(String path) {
+        for (Map.Entry<String, String> entry : pathPermissions.entrySet()) {
+            String prefix = entry.getKey();
+            if (path.equals(prefix) || path.startsWith(prefix + "/")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+
+    private boolean isGranted(Authentication authentication, String entity, String action) {
+        // Token permissions were compiled when the token was verified
+        if (authentication instanceof TokenAuthentication tokenAuthentication) {
+            return tokenAuthentication.getMatcher().matches(entity, action);
+        }
+        return permissionService.isGranted(authentication.getName(), entity, action);
+    }
+
+    private static String action(String method) {
+        return switch (method) {
+            case "GET", "HEAD" -> "read";
+            case "POST" -> "create";
+            case "PUT", "PATCH" -> "update";
+            case "DELETE" -> "delete";
+            default -> null;
+        };
+    }
+}
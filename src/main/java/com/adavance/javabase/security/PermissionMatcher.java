@@ -0,0 +1,86 @@
+package com.adavance.javabase.security;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable matcher compiled from permission patterns such as "User.*" or "Quote.read".
+ * 
+ * Patterns are dot-separated segments stored in a trie. A "*" segment matches any single
+ * segment, and a pattern ending in "*" also matches any longer permission, so "*" alone
+ * grants everything. A check walks the trie once per segment of the requested permission,
+ * following at most the exact and the wildcard branch at each level.
+ */
+public final class PermissionMatcher {
+
+    private static final String WILDCARD = "*";
+
+    private static final PermissionMatcher NONE = new PermissionMatcher(new Node());
+
+    private final Node root;
+
+    private PermissionMatcher(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * A matcher that grants nothing.
+     */
+    public static PermissionMatcher none() {
+        return NONE;
+    }
+
+    /**
+     * Compiles permission patterns into a matcher. Blank patterns are ignored.
+     */
+    public static PermissionMatcher compile(Collection<String> patterns) {
+        Node root = new Node();
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isBlank()) {
+                continue;
+            }
+            Node node = root;
+            for (String segment : pattern.trim().split("\\.")) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            node.terminal = true;
+        }
+        return new PermissionMatcher(root);
+    }
+
+    /**
+     * Whether the permission, given as its segments (e.g. "Quote", "read"), is granted.
+     */
+    public boolean matches(String... segments) {
+        return matches(root, segments, 0);
+    }
+
+    /**
+     * Whether a dotted permission such as "Quote.read" is granted.
+     */
+    public boolean matches(String permission) {
+        return matches(permission.split("\\."));
+    }
+
+    private static boolean matches(Node node, String[] segments, int index) {
+        if (index == segments.length) {
+            return node.terminal;
+        }
+        Node wildcard = node.children.get(WILDCARD);
+        // A trailing wildcard grants the whole remainder
+        if (wildcard != null && wildcard.terminal) {
+            return true;
+        }
+        Node exact = node.children.get(segments[index]);
+        if (exact != null && matches(exact, segments, index + 1)) {
+            return true;
+        }
+        return wildcard != null && matches(wildcard, segments, index + 1);
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,100 @@
+package com.adavance.javabase.security;
+
+import com.adavance.javabase.model.Role;
+import com.adavance.javabase.model.User;
+import com.adavance.javabase.repository.EntityChangedEvent;
+import com.adavance.javabase.repository.GenericRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves the permissions of users from their roles.
+ * 
+ * A user's roles are loaded once and compiled into a {@link PermissionMatcher}, cached by
+ * username together with the password hash used for authentication, so that authenticating
+ * and authorizing a request needs no database access. The cache is cleared after any change
+ * to a User or Role is committed through GenericRepository.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionService {
+
+    private final GenericRepository genericRepository;
+
+    private final Map<String, UserPermissions> usersByUsername = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented on every invalidation, so a load that raced with one is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * The permissions, compiled and as patterns, and the password hash of a user.
+     */
+    public record UserPermissions(String uuid, String username, String encryptedPassword,
+                                  List<String> permissions, PermissionMatcher matcher) {
+    }
+
+    /**
+     * Gets the permissions of a user, loading and compiling them on first use.
+     */
+    public Optional<UserPermissions> getUser(String username) {
+        UserPermissions cached = usersByUsername.get(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadGeneration = generation.get();
+        Optional<UserPermissions> loaded = genericRepository.findOneBy(User.class, "username", username)
+                .map(PermissionService::compile);
+        loaded.ifPresent(user -> {
+            usersByUsername.put(username, user);
+            if (generation.get() != loadGeneration) {
+                usersByUsername.remove(username);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * Whether the user is granted the action on the entity, e.g. ("Quote", "read").
+     */
+    public boolean isGranted(String username, String entity, String action) {
+        return getUser(username)
+                .map(user -> user.matcher().matches(entity, action))
+                .orElse(false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        Class<?> entityClass = event.entityClass();
+        // Role changes affect every user holding the role, and usernames can change,
+        // so any change clears the whole cache
+        if (entityClass == User.class || entityClass == Role.class) {
+            generation.incrementAndGet();
+            usersByUsername.clear();
+            log.debug("Cleared cached permissions after {} {}", entityClass.getSimpleName(), event.type());
+        }
+    }
+
+    private static UserPermissions compile(User user) {
+        List<String> patterns = new ArrayList<>();
+        if (user.getRoles() != null) {
+            for (Role role : user.getRoles()) {
+                patterns.addAll(role.getPermissions());
+            }
+        }
+        return new UserPermissions(user.getUuid(), user.getUsername(), user.getEncryptedPassword(),
+                List.copyOf(patterns), PermissionMatcher.compile(patterns));
+    }
+}
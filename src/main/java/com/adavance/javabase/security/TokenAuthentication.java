@@ -0,0 +1,34 @@
+package com.adavance.javabase.security;
+
+import lombok.Getter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+import java.util.List;
+
+/**
+ * Authentication established from a verified token, carrying the token's claims and
+ * compiled permissions so that authorizing the request needs no database access.
+ */
+@Getter
+public class TokenAuthentication extends AbstractAuthenticationToken {
+
+    private final TokenService.TokenClaims claims;
+    private final PermissionMatcher matcher;
+
+    public TokenAuthentication(TokenService.TokenClaims claims, PermissionMatcher matcher) {
+        super(List.of());
+        this.claims = claims;
+        this.matcher = matcher;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return claims.usr();
+    }
+}
@@ -0,0 +1,249 @@
+package com.adavance.javabase.security;
+
+import com.adavance.javabase.model.Role;
+import com.adavance.javabase.model.User;
+import com.adavance.javabase.repository.EntityChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Issues and verifies stateless, HMAC-SHA256 signed access tokens.
+ * 
+ * A token is {@code base64url(claims).base64url(signature)}, where the claims carry the key id,
+ * the user's uuid and username, their permission patterns, issue and expiry times and a
+ * unique token id. Verifying a token needs no database access: the signature proves the claims,
+ * and the permissions are compiled into a matcher once per distinct permission set.
+ * 
+ * Keys: tokens are signed with the active key and verified with any known key, so keys can be
+ * rotated by adding a new one under javabase.security.token.keys, making it active, and
+ * removing the old one once its tokens have expired. Without configured keys, a random key is
+ * generated at startup and rotated every rotation-interval, keeping previous keys until their
+ * tokens expire (tokens then do not survive a restart).
+ * 
+ * Revocation is held in memory: single tokens by id until they expire, and all tokens issued
+ * to a user before their User was changed, or to anyone before any Role was changed, since
+ * the permissions they carry may be stale. Issue and expiry times are in epoch milliseconds,
+ * so only tokens issued in the same millisecond as a change are revoked with it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${javabase.security.token.ttl:1h}")
+    private Duration ttl;
+
+    /**
+     * Signing keys as comma-separated id:base64-secret pairs.
+     */
+    @Value("${javabase.security.token.keys:}")
+    private String configuredKeys;
+
+    @Value("${javabase.security.token.active-key:}")
+    private String configuredActiveKey;
+
+    @Value("${javabase.security.token.rotation-interval:24h}")
+    private Duration rotationInterval;
+
+    private final Map<String, SigningKey> keys = new ConcurrentHashMap<>();
+    private volatile SigningKey activeKey;
+    private boolean generatedKeys;
+
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<String, Instant> revokedUsersBefore = new ConcurrentHashMap<>();
+    private volatile Instant revokedAllBefore = Instant.EPOCH;
+
+    @Value("${javabase.security.token.matcher-cache-size:1000}")
+    private int matcherCacheSize;
+
+    private Cache<List<String>, PermissionMatcher> matchers;
+
+    /**
+     * The signed claims of a token; iat and exp are epoch milliseconds.
+     */
+    public record TokenClaims(String kid, String sub, String usr, List<String> perms, long iat, long exp, String jti) {
+    }
+
+    /**
+     * An issued token and its expiry.
+     */
+    public record IssuedToken(String token, Instant expiresAt) {
+    }
+
+    private record SigningKey(String id, SecretKeySpec key, Instant createdAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        matchers = Caffeine.newBuilder().maximumSize(matcherCacheSize).build();
+
+        if (configuredKeys == null || configuredKeys.isBlank()) {
+            generatedKeys = true;
+            rotateKey();
+            log.warn("No javabase.security.token.keys configured, tokens are signed with a generated key "
+                    + "and do not survive a restart");
+            return;
+        }
+
+        for (String entry : configuredKeys.split(",")) {
+            String[] parts = entry.trim().split(":", 2);
+            if (parts.length != 2) {
+                throw new IllegalStateException("Invalid javabase.security.token.keys entry, expected id:secret");
+            }
+            byte[] secret = Base64.getDecoder().decode(parts[1]);
+            if (secret.length < 32) {
+                throw new IllegalStateException("Token key " + parts[0] + " must be at least 256 bits");
+            }
+            keys.put(parts[0], new SigningKey(parts[0], new SecretKeySpec(secret, HMAC_ALGORITHM), Instant.now()));
+        }
+        String activeId = configuredActiveKey.isBlank() ? configuredKeys.split(",")[0].trim().split(":")[0] : configuredActiveKey;
+        activeKey = keys.get(activeId);
+        if (activeKey == null) {
+            throw new IllegalStateException("Unknown javabase.security.token.active-key: " + activeId);
+        }
+    }
+
+    /**
+     * Issues a token for a user, carrying their current permissions.
+     */
+    public IssuedToken issue(PermissionService.UserPermissions user) {
+        rotateIfDue();
+        SigningKey key = activeKey;
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(ttl);
+        TokenClaims claims = new TokenClaims(key.id(), user.uuid(), user.username(), user.permissions(),
+                now.toEpochMilli(), expiresAt.toEpochMilli(), UUID.randomUUID().toString());
+
+        String payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(claims));
+        return new IssuedToken(payload + "." + ENCODER.encodeToString(sign(key, payload)), expiresAt);
+    }
+
+    /**
+     * Verifies a token's signature, expiry and revocation, returning its claims if it is valid.
+     */
+    public Optional<TokenClaims> verify(String token) {
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return Optional.empty();
+        }
+        String payload = token.substring(0, dot);
+
+        TokenClaims claims;
+        byte[] signature;
+        try {
+            claims = objectMapper.readValue(DECODER.decode(payload), TokenClaims.class);
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException | JacksonException e) {
+            return Optional.empty();
+        }
+
+        SigningKey key = claims.kid() != null ? keys.get(claims.kid()) : null;
+        if (key == null || !MessageDigest.isEqual(sign(key, payload), signature)) {
+            return Optional.empty();
+        }
+        Instant issuedAt = Instant.ofEpochMilli(claims.iat());
+        if (Instant.now().toEpochMilli() >= claims.exp() || isRevoked(claims, issuedAt)) {
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    /**
+     * The compiled matcher for the permissions of a token.
+     */
+    public PermissionMatcher matcher(TokenClaims claims) {
+        List<String> permissions = claims.perms() != null ? claims.perms() : List.of();
+        return matchers.get(permissions, PermissionMatcher::compile);
+    }
+
+    /**
+     * Revokes a single token until it expires.
+     */
+    public void revoke(TokenClaims claims) {
+        pruneRevocations();
+        revokedTokens.put(claims.jti(), Instant.ofEpochMilli(claims.exp()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangedEvent event) {
+        // Tokens carry permissions, so they must not outlive a change to them
+        if (event.entityClass() == User.class) {
+            revokedUsersBefore.put(event.entity().getUuid(), Instant.now());
+        } else if (event.entityClass() == Role.class) {
+            revokedAllBefore = Instant.now();
+        }
+    }
+
+    private boolean isRevoked(TokenClaims claims, Instant issuedAt) {
+        if (revokedTokens.containsKey(claims.jti()) || !issuedAt.isAfter(revokedAllBefore)) {
+            return true;
+        }
+        Instant userRevokedBefore = claims.sub() != null ? revokedUsersBefore.get(claims.sub()) : null;
+        return userRevokedBefore != null && !issuedAt.isAfter(userRevokedBefore);
+    }
+
+    private void pruneRevocations() {
+        Instant now = Instant.now();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        // Tokens issued before a user revocation have all expired one ttl later
+        revokedUsersBefore.values().removeIf(revokedAt -> revokedAt.plus(ttl).isBefore(now));
+    }
+
+    private synchronized void rotateIfDue() {
+        if (generatedKeys && activeKey.createdAt().plus(rotationInterval).isBefore(Instant.now())) {
+            rotateKey();
+        }
+    }
+
+    private synchronized void rotateKey() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        String id = UUID.randomUUID().toString();
+        SigningKey key = new SigningKey(id, new SecretKeySpec(secret, HMAC_ALGORITHM), Instant.now());
+        keys.put(id, key);
+        activeKey = key;
+
+        // A retired key is kept while tokens it signed can still be valid
+        Instant retiredBefore = Instant.now().minus(rotationInterval).minus(ttl);
+        keys.values().removeIf(candidate -> candidate.createdAt().isBefore(retiredBefore));
+    }
+
+    private static byte[] sign(SigningKey key, String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key.key());
+            return mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(HMAC_ALGORITHM + " not available", e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.adavance.javabase.security;
+
+import com.adavance.javabase.util.EncryptionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Authenticates username/password credentials (HTTP Basic) against the cached user from
+ * PermissionService, verifying the password through PasswordVerificationCache, so a client
+ * repeating the same credentials costs neither a query nor a BCrypt hash per request.
+ * 
+ * Unknown usernames are checked against a dummy hash, like DaoAuthenticationProvider does,
+ * so response times do not reveal which usernames exist.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAuthenticationProvider implements AuthenticationProvider {
+
+    private final PermissionService permissionService;
+    private final PasswordVerificationCache passwordVerificationCache;
+
+    /**
+     * Hash of a random password, created on first use so it has the configured BCrypt strength.
+     */
+    private volatile String userNotFoundHash;
+
+    @Override
+    public Authentication authenticate(Authentication authentication) {
+        Object credentials = authentication.getCredentials();
+        PermissionService.UserPermissions user = verify(authentication.getName(),
+                credentials != null ? credentials.toString() : null)
+                .orElseThrow(() -> new BadCredentialsException("Bad credentials"));
+
+        return UsernamePasswordAuthenticationToken.authenticated(user.username(), null, List.of());
+    }
+
+    /**
+     * Checks a username and password, returning the user if they match.
+     */
+    public Optional<PermissionService.UserPermissions> verify(String username, String password) {
+        if (username == null || password == null) {
+            return Optional.empty();
+        }
+        Optional<PermissionService.UserPermissions> user = permissionService.getUser(username);
+        if (user.isEmpty()) {
+            passwordVerificationCache.verify(password, userNotFoundHash());
+            return Optional.empty();
+        }
+        return user.filter(found -> passwordVerificationCache.verify(password, found.encryptedPassword()));
+    }
+
+    private String userNotFoundHash() {
+        String hash = userNotFoundHash;
+        if (hash == null) {
+            hash = EncryptionUtils.encrypt(UUID.randomUUID().toString());
+            userNotFoundHash = hash;
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+}
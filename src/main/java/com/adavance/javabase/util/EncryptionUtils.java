@@ -4,12 +4,20 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 public class EncryptionUtils {
 
-    private static final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+    private static volatile BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
 
     private EncryptionUtils() {
         // Private constructor to hide the implicit public one
     }
 
+    /**
+     * Replaces the encoder with one of the configured BCrypt strength.
+     * Called by PasswordHashingService on startup, so passwords hashed here get the same cost.
+     */
+    public static void useEncoder(BCryptPasswordEncoder configuredEncoder) {
+        encoder = configuredEncoder;
+    }
+
     public static String encrypt(String password) {
         return encoder.encode(password);
     }
@@ -26,6 +26,7 @@ public class EntityDiscovery {
     private final EntityManagerFactory entityManagerFactory;
     private final Map<String, Class<?>> entityNameToClass = new HashMap<>();
     private final Map<Class<?>, String> classToEntityName = new HashMap<>();
+    private final Map<Class<?>, EntityType<?>> classToEntityType = new HashMap<>();
 
     @PostConstruct
     public void discoverEntities() {
@@ -40,6 +41,7 @@ public class EntityDiscovery {
                 String entityName = toEntityName(entityClass.getSimpleName());
                 entityNameToClass.put(entityName, entityClass);
                 classToEntityName.put(entityClass, entityName);
+                classToEntityType.put(entityClass, entityType);
             }
         }
     }
@@ -75,6 +77,13 @@ public class EntityDiscovery {
         return Optional.ofNullable(classToEntityName.get(clazz));
     }
 
+    /**
+     * Get the JPA metamodel type of a discovered entity class, used to validate attribute names.
+     */
+    public Optional<EntityType<?>> getEntityType(Class<?> clazz) {
+        return Optional.ofNullable(classToEntityType.get(clazz));
+    }
+
     /**
      * Check if an entity name exists.
      */
@@ -0,0 +1,41 @@
+package com.adavance.javabase.util;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.UUID;
+
+/**
+ * Stores the string uuid of an entity in a native PostgreSQL {@code uuid} column (16 bytes)
+ * instead of a 36-character varchar, while the entity and the REST API keep the string form.
+ *
+ * Opt in per entity by overriding the inherited mapping:
+ * <pre>
+ * &#64;Convert(attributeName = "uuid", converter = UuidStringConverter.class)
+ * public class Quote extends BaseEntity { ... }
+ * </pre>
+ * ddl-auto: update does not change the type of existing columns; migrate them first with
+ * {@code ALTER TABLE quotes ALTER COLUMN uuid TYPE uuid USING uuid::uuid}.
+ */
+@Converter
+public class UuidStringConverter implements AttributeConverter<String, UUID> {
+
+    @Override
+    public UUID convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(attribute);
+        } catch (IllegalArgumentException e) {
+            // Not a UUID, so it cannot match any stored value: lookups find nothing
+            // and persisting it fails the not-null constraint
+            return null;
+        }
+    }
+
+    @Override
+    public String convertToEntityAttribute(UUID dbData) {
+        return dbData != null ? dbData.toString() : null;
+    }
+}
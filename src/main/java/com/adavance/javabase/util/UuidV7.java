@@ -0,0 +1,69 @@
+package com.adavance.javabase.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generator for time-ordered version 7 UUIDs (RFC 9562).
+ * The first 48 bits are the Unix timestamp in milliseconds, followed by a 12-bit counter
+ * that keeps UUIDs generated within the same millisecond in order, and 62 random bits.
+ * Consecutive UUIDs therefore sort by creation time, both as values and as strings,
+ * so new rows are appended at the end of the uuid index instead of at random positions.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_SEQUENCE = 0xFFF;
+
+    private static long lastTimestamp = -1;
+    private static int sequence;
+
+    private UuidV7() {
+        // Private constructor to hide the implicit public one
+    }
+
+    /**
+     * Generates a new version 7 UUID, greater than any previously generated by this JVM.
+     */
+    public static UUID generate() {
+        long timestamp;
+        int counter;
+        synchronized (UuidV7.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                // Start at a random point in the lower half, leaving room to count up
+                sequence = RANDOM.nextInt((MAX_SEQUENCE + 1) / 2);
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                // Counter exhausted within this millisecond: borrow the next one
+                lastTimestamp++;
+                sequence = 0;
+            }
+            timestamp = lastTimestamp;
+            counter = sequence;
+        }
+
+        long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Generates a new version 7 UUID in its canonical string form.
+     */
+    public static String generateString() {
+        return generate().toString();
+    }
+
+    /**
+     * Extracts the creation timestamp (Unix milliseconds) of a version 7 UUID.
+     */
+    public static long timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,46 @@
+package com.adavance.javabase.binding;
+
+import com.adavance.javabase.invoicing.model.Invoice;
+import com.adavance.javabase.invoicing.model.Item;
+import com.adavance.javabase.invoicing.model.Line;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityBindingTest {
+
+    @Test
+    void testManagedFieldsAreNotBindable() {
+        EntityBinding binding = EntityBinding.of(Item.class);
+
+        assertTrue(binding.getField("name").isPresent());
+        assertTrue(binding.getField("uuid").isEmpty(), "uuid is managed by JPA callbacks");
+        assertTrue(binding.getField("id").isEmpty(), "id is managed by JPA");
+    }
+
+    @Test
+    void testRelationshipMetadata() {
+        FieldBinding item = EntityBinding.of(Line.class).getField("item").orElseThrow();
+        assertEquals(RelationshipKind.MANY_TO_ONE, item.getRelationshipKind());
+        assertEquals(Item.class, item.getTargetClass());
+        assertEquals("itemId", item.getReferenceKey());
+
+        FieldBinding lines = EntityBinding.of(Invoice.class).getField("lines").orElseThrow();
+        assertEquals(RelationshipKind.ONE_TO_MANY, lines.getRelationshipKind());
+        assertEquals(Line.class, lines.getTargetClass());
+    }
+
+    @Test
+    void testAccessorsAndConversion() {
+        EntityBinding binding = EntityBinding.of(Item.class);
+        Item item = (Item) binding.newInstance();
+
+        FieldBinding price = binding.getField("price").orElseThrow();
+        price.set(item, price.convert("12.50"));
+
+        assertEquals(new BigDecimal("12.50"), item.getPrice());
+        assertEquals(new BigDecimal("12.50"), price.get(item));
+    }
+}
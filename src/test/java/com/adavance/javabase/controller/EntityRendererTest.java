@@ -0,0 +1,68 @@
+package com.adavance.javabase.controller;
+
+import com.adavance.javabase.binding.EntityBindingRegistry;
+import com.adavance.javabase.quoteplus.model.AddOn;
+import com.adavance.javabase.quoteplus.model.Product;
+import com.adavance.javabase.quoteplus.model.Quote;
+import com.adavance.javabase.quoteplus.model.QuoteAddOn;
+import com.adavance.javabase.repository.FetchPlan;
+import com.adavance.javabase.util.EntityDiscovery;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class EntityRendererTest {
+
+    private final EntityRenderer renderer = new EntityRenderer(new EntityBindingRegistry(mock(EntityDiscovery.class)));
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    @Test
+    void testQuoteWithLinesRendersFlat() {
+        Product product = new Product();
+        product.setUuid("product-uuid");
+        product.setName("Website");
+        product.setBasePrice(new BigDecimal("1000.00"));
+
+        AddOn addOn = new AddOn();
+        addOn.setUuid("add-on-uuid");
+
+        Quote quote = new Quote();
+        quote.setUuid("quote-uuid");
+        quote.setProduct(product);
+        quote.setCustomerName("Acme");
+        quote.setStatus("DRAFT");
+        quote.setTotalPrice(new BigDecimal("1200.00"));
+        product.getQuotes().add(quote);
+
+        QuoteAddOn line = new QuoteAddOn();
+        line.setUuid("line-uuid");
+        line.setQuote(quote);
+        line.setAddOn(addOn);
+        line.setLinePrice(new BigDecimal("200.00"));
+        quote.getSelectedAddOns().add(line);
+
+        JsonNode json = jsonMapper.valueToTree(renderer.render(quote, FetchPlan.none()));
+
+        assertEquals("quote-uuid", json.get("uuid").asString());
+        assertEquals("Acme", json.get("customerName").asString());
+        assertEquals(1200, json.get("totalPrice").asInt());
+        // To-one relationships are rendered as their uuid only
+        assertEquals(1, json.get("product").size());
+        assertEquals("product-uuid", json.get("product").get("uuid").asString());
+
+        // Loaded lines are rendered flat, the back-reference to the quote is not followed
+        JsonNode lines = json.get("selectedAddOns");
+        assertEquals(1, lines.size());
+        assertEquals("line-uuid", lines.get(0).get("uuid").asString());
+        assertEquals(200, lines.get(0).get("linePrice").asInt());
+        assertEquals("quote-uuid", lines.get(0).get("quote").get("uuid").asString());
+        assertEquals(1, lines.get(0).get("quote").size());
+        assertEquals("add-on-uuid", lines.get(0).get("addOn").get("uuid").asString());
+        assertTrue(lines.get(0).get("addOnLevel").isNull());
+    }
+}
@@ -0,0 +1,126 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import com.adavance.javabase.quoteplus.model.AddOn;
+import com.adavance.javabase.quoteplus.model.AddOnLevel;
+import com.adavance.javabase.quoteplus.model.QuoteAddOn;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuotePricingEngineTest {
+
+    private final PriceCatalog catalog = new PriceCatalog(1L, "product", new BigDecimal("100.00"), List.of(
+            new PriceCatalog.AddOnPrice(10L, "warranty", new BigDecimal("25.50"), false, true, true, List.of(
+                    new PriceCatalog.LevelPrice(11L, "warranty-basic", new BigDecimal("0.00"), true),
+                    new PriceCatalog.LevelPrice(12L, "warranty-premium", new BigDecimal("14.25"), true),
+                    new PriceCatalog.LevelPrice(13L, "warranty-legacy", new BigDecimal("5.00"), false))),
+            new PriceCatalog.AddOnPrice(20L, "delivery", new BigDecimal("9.99"), true, true, true, List.of()),
+            new PriceCatalog.AddOnPrice(40L, "gift-wrap", new BigDecimal("3.00"), false, false, false, List.of())));
+
+    @Test
+    void testLinePriceWithLevel() {
+        assertEquals(new BigDecimal("39.75"), QuotePricingEngine.linePrice(catalog, line(10L, 12L, true, null)));
+        assertEquals(new BigDecimal("9.99"), QuotePricingEngine.linePrice(catalog, line(20L, null, true, null)));
+    }
+
+    @Test
+    void testCustomPriceAndExcludedLines() {
+        assertEquals(new BigDecimal("5.00"), QuotePricingEngine.linePrice(catalog, line(10L, 12L, true, new BigDecimal("5"))));
+        assertEquals(new BigDecimal("0.00"), QuotePricingEngine.linePrice(catalog, line(10L, 12L, false, new BigDecimal("5"))));
+    }
+
+    @Test
+    void testTotalIsExact() {
+        List<QuoteAddOn> lines = List.of(line(10L, 12L, true, null), line(20L, null, true, null));
+
+        assertEquals(new BigDecimal("149.74"), QuotePricingEngine.total(catalog, lines));
+    }
+
+    @Test
+    void testRepriceMatchesFullTotal() {
+        QuoteAddOn warranty = line(10L, 11L, true, null);
+        QuoteAddOn delivery = line(20L, null, true, null);
+        BigDecimal total = QuotePricingEngine.total(catalog, List.of(warranty, delivery));
+        BigDecimal previous = QuotePricingEngine.linePrice(catalog, warranty);
+
+        warranty.setAddOnLevel(level(12L));
+        BigDecimal repriced = QuotePricingEngine.reprice(total, previous, QuotePricingEngine.linePrice(catalog, warranty));
+
+        assertEquals(QuotePricingEngine.total(catalog, List.of(warranty, delivery)), repriced);
+
+        BigDecimal removed = QuotePricingEngine.reprice(repriced, QuotePricingEngine.linePrice(catalog, delivery), null);
+        assertEquals(QuotePricingEngine.total(catalog, List.of(warranty)), removed);
+    }
+
+    @Test
+    void testUnavailableAddOnAndForeignLevel() {
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.linePrice(catalog, line(30L, null, true, null)));
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.linePrice(catalog, line(20L, 12L, true, null)));
+    }
+
+    @Test
+    void testInactiveAddOnAndLevel() {
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.linePrice(catalog, line(40L, null, true, null)));
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.linePrice(catalog, line(10L, 13L, true, null)));
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.total(catalog,
+                selection(new PricingSelection.SelectedAddOn("gift-wrap", null, true))));
+    }
+
+    @Test
+    void testSelectionDefaultsAndLevels() {
+        assertEquals(new BigDecimal("135.49"), QuotePricingEngine.total(catalog, selection()));
+        assertEquals(new BigDecimal("149.74"), QuotePricingEngine.total(catalog,
+                selection(new PricingSelection.SelectedAddOn("warranty", "warranty-premium", null))));
+        assertEquals(new BigDecimal("109.99"), QuotePricingEngine.total(catalog,
+                selection(new PricingSelection.SelectedAddOn("warranty", null, false))));
+    }
+
+    @Test
+    void testSelectionMatchesQuoteWithDefaultLines() {
+        // A selection prices the add-ons included by default, a quote only the lines it holds
+        assertEquals(QuotePricingEngine.total(catalog, List.of(line(10L, null, true, null), line(20L, null, true, null))),
+                QuotePricingEngine.total(catalog, selection()));
+        assertEquals(new BigDecimal("100.00"), QuotePricingEngine.total(catalog, List.of()));
+
+        assertEquals(QuotePricingEngine.total(catalog, List.of(line(10L, 12L, true, null), line(20L, null, true, null))),
+                QuotePricingEngine.total(catalog, selection(
+                        new PricingSelection.SelectedAddOn("warranty", "warranty-premium", null))));
+    }
+
+    @Test
+    void testSelectionRules() {
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.total(catalog,
+                selection(new PricingSelection.SelectedAddOn("delivery", null, false))));
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.total(catalog,
+                selection(new PricingSelection.SelectedAddOn("unknown", null, true))));
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.total(catalog,
+                selection(new PricingSelection.SelectedAddOn("delivery", "warranty-basic", true))));
+        assertThrows(IllegalArgumentException.class, () -> QuotePricingEngine.total(catalog, selection(
+                new PricingSelection.SelectedAddOn("warranty", null, true),
+                new PricingSelection.SelectedAddOn("warranty", null, false))));
+    }
+
+    private static PricingSelection selection(PricingSelection.SelectedAddOn... addOns) {
+        return new PricingSelection(List.of(addOns));
+    }
+
+    private static QuoteAddOn line(Long addOnId, Long levelId, boolean included, BigDecimal customPrice) {
+        AddOn addOn = new AddOn();
+        addOn.setId(addOnId);
+        QuoteAddOn line = new QuoteAddOn();
+        line.setAddOn(addOn);
+        line.setAddOnLevel(levelId != null ? level(levelId) : null);
+        line.setIncluded(included);
+        line.setCustomPrice(customPrice);
+        return line;
+    }
+
+    private static AddOnLevel level(Long levelId) {
+        AddOnLevel level = new AddOnLevel();
+        level.setId(levelId);
+        return level;
+    }
+}
@@ -0,0 +1,85 @@
+package com.adavance.javabase.quoteplus.pricing;
+
+import com.adavance.javabase.quoteplus.model.AddOn;
+import com.adavance.javabase.quoteplus.model.Product;
+import com.adavance.javabase.quoteplus.model.Quote;
+import com.adavance.javabase.quoteplus.model.QuoteAddOn;
+import com.adavance.javabase.repository.EntityChangedEvent;
+import com.adavance.javabase.repository.GenericRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QuotePricingListenerTest {
+
+    private final PriceCatalogService priceCatalogService = mock(PriceCatalogService.class);
+    private final GenericRepository genericRepository = mock(GenericRepository.class);
+    private final QuotePricingListener listener = new QuotePricingListener(priceCatalogService, genericRepository);
+
+    private Quote quote;
+
+    @BeforeEach
+    void setUp() {
+        catalogPrices("100.00", "25.00");
+
+        Product product = new Product();
+        product.setId(1L);
+        AddOn addOn = new AddOn();
+        addOn.setId(10L);
+
+        quote = new Quote();
+        quote.setProduct(product);
+        quote.setStatus("DRAFT");
+        QuoteAddOn line = new QuoteAddOn();
+        line.setQuote(quote);
+        line.setAddOn(addOn);
+        quote.getSelectedAddOns().add(line);
+
+        listener.onEntityChanged(new EntityChangedEvent(quote, EntityChangedEvent.Type.CREATED));
+    }
+
+    @Test
+    void testCreatedQuoteIsPriced() {
+        assertEquals(new BigDecimal("125.00"), quote.getTotalPrice());
+        assertEquals(new BigDecimal("25.00"), quote.getSelectedAddOns().get(0).getLinePrice());
+    }
+
+    @Test
+    void testStatusChangeKeepsPricesAfterCatalogChange() {
+        catalogPrices("150.00", "40.00");
+        when(genericRepository.isChanged(any(), anyString())).thenReturn(false);
+
+        quote.setStatus("SENT");
+        listener.onEntityChanged(new EntityChangedEvent(quote, EntityChangedEvent.Type.UPDATED));
+
+        assertEquals(new BigDecimal("125.00"), quote.getTotalPrice());
+        assertEquals(new BigDecimal("25.00"), quote.getSelectedAddOns().get(0).getLinePrice());
+    }
+
+    @Test
+    void testProductChangeReprices() {
+        catalogPrices("150.00", "40.00");
+        when(genericRepository.isChanged(any(), anyString())).thenReturn(false);
+        when(genericRepository.isChanged(quote, "product")).thenReturn(true);
+
+        listener.onEntityChanged(new EntityChangedEvent(quote, EntityChangedEvent.Type.UPDATED));
+
+        assertEquals(new BigDecimal("190.00"), quote.getTotalPrice());
+        assertEquals(new BigDecimal("40.00"), quote.getSelectedAddOns().get(0).getLinePrice());
+    }
+
+    private void catalogPrices(String basePrice, String addOnPrice) {
+        PriceCatalog catalog = new PriceCatalog(1L, "product", new BigDecimal(basePrice), List.of(
+                new PriceCatalog.AddOnPrice(10L, "warranty", new BigDecimal(addOnPrice), false, true, true, List.of())));
+        when(priceCatalogService.getCatalog(1L)).thenReturn(Optional.of(catalog));
+    }
+}
@@ -0,0 +1,100 @@
+package com.adavance.javabase.repository;
+
+import com.adavance.javabase.invoicing.model.Item;
+import com.adavance.javabase.model.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the read-only read path of GenericRepository keeps no dirty-checking snapshot
+ * for the entities it loads, while a regular read-write transaction keeps one per entity.
+ */
+@SpringBootTest
+class ReadPathSnapshotTest {
+
+    private static final int ENTITY_COUNT = 100;
+
+    @Autowired
+    private GenericRepository genericRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void createItems() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < ENTITY_COUNT; i++) {
+            Item item = new Item();
+            item.setName("Read path item " + i);
+            item.setCode("READ-PATH-" + i);
+            item.setPrice(new BigDecimal("9.99"));
+            items.add(item);
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> genericRepository.saveAll(items));
+    }
+
+    @AfterEach
+    void deleteItems() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                entityManager.createQuery("DELETE FROM Item i WHERE i.code LIKE 'READ-PATH-%'").executeUpdate());
+    }
+
+    @Test
+    void readPathKeepsNoSnapshots() {
+        Result readWrite = load(false, () -> entityManager
+                .createQuery("SELECT i FROM Item i ORDER BY i.id", Item.class)
+                .getResultList());
+        Result readOnly = load(true, () -> genericRepository
+                .findPage(Item.class, ListQuery.unfiltered(), FetchPlan.none(), null, readWrite.entities() + 1)
+                .items());
+
+        assertTrue(readWrite.entities() >= ENTITY_COUNT);
+        assertEquals(readWrite.entities(), readOnly.entities());
+        assertEquals(readWrite.entities(), readWrite.snapshots(), "Read-write loads keep a snapshot per entity");
+        assertEquals(0, readOnly.snapshots(), "The read path must not keep dirty-checking snapshots");
+    }
+
+    private Result load(boolean readOnly, Loader loader) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> {
+            List<? extends BaseEntity> entities = loader.load();
+
+            SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+            int snapshots = 0;
+            for (BaseEntity entity : entities) {
+                EntityEntry entry = session.getPersistenceContextInternal().getEntry(entity);
+                if (entry != null && entry.getLoadedState() != null) {
+                    snapshots++;
+                }
+            }
+            return new Result(entities.size(), snapshots);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Loader {
+        List<? extends BaseEntity> load();
+    }
+
+    private record Result(int entities, int snapshots) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.adavance.javabase.security;
+
+import com.adavance.javabase.quoteplus.model.Quote;
+import com.adavance.javabase.util.EntityDiscovery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PermissionAuthorizationFilterTest {
+
+    private final PermissionService permissionService = mock(PermissionService.class);
+    private final EntityDiscovery entityDiscovery = mock(EntityDiscovery.class);
+    private final PermissionAuthorizationFilter filter =
+            new PermissionAuthorizationFilter(permissionService, entityDiscovery,
+                    Map.of("/quoteplus/dashboard", "Quote.read"));
+
+    @BeforeEach
+    void setUp() {
+        when(entityDiscovery.getEntityClass(anyString())).thenReturn(Optional.empty());
+        when(entityDiscovery.getEntityClass("quote")).thenReturn(Optional.<Class<?>>of(Quote.class));
+        when(permissionService.isGranted("alice", "Quote", "read")).thenReturn(false);
+        when(permissionService.isGranted("bob", "Quote", "read")).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testDeniedWithoutPermission() throws Exception {
+        MockHttpServletResponse response = filter("alice", "/rest/quote");
+
+        assertEquals(403, response.getStatus());
+    }
+
+    @Test
+    void testGrantedWithPermission() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticate("bob");
+
+        filter.doFilter(request("/rest/quote/0190a1b2-0000-7000-8000-000000000000"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    void testEncodedEntityNameIsChecked() throws Exception {
+        MockHttpServletResponse response = filter("alice", "/rest/%71uote");
+
+        assertEquals(403, response.getStatus());
+    }
+
+    @Test
+    void testUnknownEntityIsRejected() throws Exception {
+        MockHttpServletResponse response = filter("bob", "/rest/unknown");
+
+        assertEquals(404, response.getStatus());
+    }
+
+    @Test
+    void testPathPermission() throws Exception {
+        MockHttpServletResponse response = filter("alice", "/quoteplus/dashboard/quotes");
+        assertEquals(403, response.getStatus());
+
+        MockFilterChain chain = new MockFilterChain();
+        authenticate("bob");
+        filter.doFilter(request("/quoteplus/dashboard/quotes"), new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+    }
+
+    private MockHttpServletResponse filter(String username, String uri) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        authenticate(username);
+
+        filter.doFilter(request(uri), response, chain);
+
+        assertNull(chain.getRequest(), "Request should not reach the controller");
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRequestURI(uri);
+        return request;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.adavance.javabase.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PermissionMatcherTest {
+
+    @Test
+    void testExactPermission() {
+        PermissionMatcher matcher = PermissionMatcher.compile(List.of("Quote.read"));
+
+        assertTrue(matcher.matches("Quote", "read"));
+        assertFalse(matcher.matches("Quote", "update"));
+        assertFalse(matcher.matches("Product", "read"));
+        assertFalse(matcher.matches("Quote"));
+    }
+
+    @Test
+    void testTrailingWildcard() {
+        PermissionMatcher matcher = PermissionMatcher.compile(List.of("User.*"));
+
+        assertTrue(matcher.matches("User", "read"));
+        assertTrue(matcher.matches("User", "delete"));
+        assertFalse(matcher.matches("Role", "read"));
+    }
+
+    @Test
+    void testLeadingWildcard() {
+        PermissionMatcher matcher = PermissionMatcher.compile(List.of("*.read"));
+
+        assertTrue(matcher.matches("Quote", "read"));
+        assertTrue(matcher.matches("Product.read"));
+        assertFalse(matcher.matches("Quote", "create"));
+    }
+
+    @Test
+    void testGlobalWildcardAndCombinedRoles() {
+        assertTrue(PermissionMatcher.compile(List.of("*")).matches("Anything", "delete"));
+
+        PermissionMatcher matcher = PermissionMatcher.compile(List.of("Quote.read", "Quote.create", " "));
+        assertTrue(matcher.matches("Quote", "create"));
+        assertFalse(matcher.matches("Quote", "delete"));
+        assertFalse(PermissionMatcher.none().matches("Quote", "read"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.adavance.javabase.security;
+
+import com.adavance.javabase.model.Role;
+import com.adavance.javabase.model.User;
+import com.adavance.javabase.repository.EntityChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final String KEY_1 = "k1:" + secret('1');
+    private static final String KEY_2 = "k2:" + secret('2');
+
+    private final PermissionService.UserPermissions alice = new PermissionService.UserPermissions(
+            "alice-uuid", "alice", "hash", List.of("Quote.read"), PermissionMatcher.compile(List.of("Quote.read")));
+
+    @Test
+    void testIssueAndVerify() {
+        TokenService tokens = tokenService(KEY_1, "", Duration.ofHours(1));
+
+        Optional<TokenService.TokenClaims> claims = tokens.verify(tokens.issue(alice).token());
+
+        assertTrue(claims.isPresent());
+        assertEquals("alice-uuid", claims.get().sub());
+        assertEquals("k1", claims.get().kid());
+        assertTrue(tokens.matcher(claims.get()).matches("Quote", "read"));
+        assertFalse(tokens.matcher(claims.get()).matches("Quote", "delete"));
+    }
+
+    @Test
+    void testTamperedTokenIsRejected() {
+        TokenService tokens = tokenService(KEY_1, "", Duration.ofHours(1));
+        String token = tokens.issue(alice).token();
+        int dot = token.indexOf('.');
+
+        // Claims granting every permission, signed with the original signature
+        String claims = new String(Base64.getUrlDecoder().decode(token.substring(0, dot)), StandardCharsets.UTF_8)
+                .replace("Quote.read", "*");
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+                + token.substring(dot);
+        assertTrue(tokens.verify(forged).isEmpty());
+
+        String signature = token.substring(dot + 1);
+        char flipped = signature.charAt(0) == 'A' ? 'B' : 'A';
+        assertTrue(tokens.verify(token.substring(0, dot + 1) + flipped + signature.substring(1)).isEmpty());
+        assertTrue(tokens.verify(token.substring(0, dot)).isEmpty());
+        assertTrue(tokens.verify("not-a-token").isEmpty());
+    }
+
+    @Test
+    void testExpiredTokenIsRejected() {
+        TokenService tokens = tokenService(KEY_1, "", Duration.ofMillis(-1));
+
+        assertTrue(tokens.verify(tokens.issue(alice).token()).isEmpty());
+    }
+
+    @Test
+    void testRotatedKeys() {
+        String token = tokenService(KEY_1, "", Duration.ofHours(1)).issue(alice).token();
+
+        // k2 is active, k1 still verifies the tokens it signed
+        TokenService rotated = tokenService(KEY_1 + "," + KEY_2, "k2", Duration.ofHours(1));
+        assertTrue(rotated.verify(token).isPresent());
+        assertEquals("k2", rotated.verify(rotated.issue(alice).token()).orElseThrow().kid());
+
+        // Once k1 is removed, its tokens are rejected
+        assertTrue(tokenService(KEY_2, "", Duration.ofHours(1)).verify(token).isEmpty());
+    }
+
+    @Test
+    void testGeneratedKeysRotate() throws InterruptedException {
+        TokenService tokens = tokenService("", "", Duration.ofHours(1));
+        ReflectionTestUtils.setField(tokens, "rotationInterval", Duration.ZERO);
+        String first = tokens.issue(alice).token();
+        Thread.sleep(5);
+
+        String second = tokens.issue(alice).token();
+
+        assertNotEquals(tokens.verify(first).orElseThrow().kid(), tokens.verify(second).orElseThrow().kid());
+    }
+
+    @Test
+    void testRevokedToken() {
+        TokenService tokens = tokenService(KEY_1, "", Duration.ofHours(1));
+        String revoked = tokens.issue(alice).token();
+        String other = tokens.issue(alice).token();
+
+        tokens.revoke(tokens.verify(revoked).orElseThrow());
+
+        assertTrue(tokens.verify(revoked).isEmpty());
+        assertTrue(tokens.verify(other).isPresent());
+    }
+
+    @Test
+    void testUserChangeRevokesEarlierTokens() throws InterruptedException {
+        TokenService tokens = tokenService(KEY_1, "", Duration.ofHours(1));
+        String before = tokens.issue(alice).token();
+        String otherUser = tokens.issue(new PermissionService.UserPermissions(
+                "bob-uuid", "bob", "hash", List.of(), PermissionMatcher.none())).token();
+
+        tokens.onEntityChanged(new EntityChangedEvent(
+                new User("alice-uuid", "alice", null, List.of()), EntityChangedEvent.Type.UPDATED));
+        Thread.sleep(2);
+
+        assertTrue(tokens.verify(before).isEmpty());
+        assertTrue(tokens.verify(otherUser).isPresent());
+        assertTrue(tokens.verify(tokens.issue(alice).token()).isPresent());
+    }
+
+    @Test
+    void testRoleChangeRevokesEarlierTokens() throws InterruptedException {
+        TokenService tokens = tokenService(KEY_1, "", Duration.ofHours(1));
+        String before = tokens.issue(alice).token();
+
+        tokens.onEntityChanged(new EntityChangedEvent(
+                new Role("role-uuid", "sales", List.of("Quote.*")), EntityChangedEvent.Type.UPDATED));
+        Thread.sleep(2);
+
+        assertTrue(tokens.verify(before).isEmpty());
+        // A token issued just after the change, usually in the same second, is valid
+        assertTrue(tokens.verify(tokens.issue(alice).token()).isPresent());
+    }
+
+    private static TokenService tokenService(String keys, String activeKey, Duration ttl) {
+        TokenService tokens = new TokenService(JsonMapper.builder().build());
+        ReflectionTestUtils.setField(tokens, "ttl", ttl);
+        ReflectionTestUtils.setField(tokens, "configuredKeys", keys);
+        ReflectionTestUtils.setField(tokens, "configuredActiveKey", activeKey);
+        ReflectionTestUtils.setField(tokens, "rotationInterval", Duration.ofHours(24));
+        ReflectionTestUtils.setField(tokens, "matcherCacheSize", 100);
+        tokens.init();
+        return tokens;
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes(StandardCharsets.US_ASCII));
+    }
+}
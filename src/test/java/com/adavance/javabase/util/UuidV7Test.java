@@ -0,0 +1,38 @@
+package com.adavance.javabase.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void testVersionAndVariant() {
+        UUID uuid = UuidV7.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void testTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+        long after = System.currentTimeMillis();
+
+        long timestamp = UuidV7.timestamp(uuid);
+        assertTrue(timestamp >= before && timestamp <= after + 1, "Timestamp should be the creation time");
+    }
+
+    @Test
+    void testGeneratedUuidsAreOrdered() {
+        String previous = UuidV7.generateString();
+        for (int i = 0; i < 10_000; i++) {
+            String next = UuidV7.generateString();
+            assertTrue(next.compareTo(previous) > 0, "UUIDs should sort in creation order");
+            previous = next;
+        }
+    }
+}